@@ -0,0 +1,29 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Воспроизводимые наборы точек для бенчмарков: X строго возрастает,
+// поэтому наборы подходят и для Лагранжа, и для сплайнов
+final class BenchmarkPoints {
+    static final long SEED = 42;
+
+    private BenchmarkPoints() {
+    }
+
+    static List<Point2D> generate(int count, double width, double height) {
+        Random random = new Random(SEED);
+        List<Point2D> points = new ArrayList<>(count);
+        double step = width / count;
+
+        for (int i = 0; i < count; i++) {
+            double x = i * step + random.nextDouble() * step * 0.5;
+            points.add(new Point2D(x, random.nextDouble() * height));
+        }
+
+        return points;
+    }
+}
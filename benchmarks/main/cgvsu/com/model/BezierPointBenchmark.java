@@ -0,0 +1,48 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Вычисление отдельных точек исходными схемами на Point2D; от EvaluationMode не зависит,
+// поэтому вынесено из BezierStrategyBenchmark, чтобы не повторяться для каждой схемы
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BezierPointBenchmark {
+
+    @Param({"4", "16", "64"})
+    private int pointCount;
+
+    @Param({"100", "1000"})
+    private int segments;
+
+    private BezierStrategy strategy;
+    private List<Point2D> points;
+
+    @Setup
+    public void setup() {
+        strategy = new BezierStrategy();
+        points = BenchmarkPoints.generate(pointCount, 800, 600);
+    }
+
+    @Benchmark
+    public void calculatePointCasteljau(Blackhole blackhole) {
+        for (int i = 0; i <= segments; i++) {
+            blackhole.consume(strategy.calculatePointCasteljau(points, (double) i / segments));
+        }
+    }
+
+    @Benchmark
+    public void calculatePointBernstein(Blackhole blackhole) {
+        for (int i = 0; i <= segments; i++) {
+            blackhole.consume(BezierStrategy.calculatePointBernstein(points, (double) i / segments));
+        }
+    }
+}
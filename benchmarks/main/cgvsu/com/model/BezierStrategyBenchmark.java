@@ -0,0 +1,59 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BezierStrategyBenchmark {
+
+    @Param({"4", "16", "64"})
+    private int pointCount;
+
+    @Param({"100", "1000"})
+    private int segments;
+
+    @Param({"CASTELJAU", "BERNSTEIN", "HORNER", "FORWARD_DIFFERENCE"})
+    private BezierStrategy.EvaluationMode mode;
+
+    private BezierStrategy strategy;
+    private BezierStrategy parallelStrategy;
+    private List<Point2D> points;
+    private CurveBuffer buffer;
+
+    @Setup
+    public void setup() {
+        strategy = new BezierStrategy();
+        strategy.setEvaluationMode(mode);
+        parallelStrategy = new BezierStrategy();
+        parallelStrategy.setEvaluationMode(mode);
+        parallelStrategy.setParallel(true);
+        parallelStrategy.setParallelThreshold(64);
+        points = BenchmarkPoints.generate(pointCount, 800, 600);
+        buffer = new CurveBuffer();
+    }
+
+    @Benchmark
+    public List<Point2D> calculate() {
+        return strategy.calculate(points, segments);
+    }
+
+    @Benchmark
+    public CurveBuffer calculateIntoBuffer() {
+        strategy.calculate(points, segments, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public CurveBuffer calculateIntoBufferParallel() {
+        parallelStrategy.calculate(points, segments, buffer);
+        return buffer;
+    }
+}
@@ -0,0 +1,73 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CubicSplineStrategyBenchmark {
+
+    @Param({"4", "64", "1024"})
+    private int pointCount;
+
+    @Param({"100", "1000"})
+    private int segments;
+
+    private CubicSplineStrategy strategy;
+    private List<Point2D> points;
+    private List<Point2D> movedPoints;
+    private boolean useMoved;
+    private double startX;
+    private double endX;
+    private CurveBuffer buffer;
+
+    @Setup
+    public void setup() {
+        strategy = new CubicSplineStrategy();
+        points = BenchmarkPoints.generate(pointCount, 800, 600);
+        // Та же форма с одной сдвинутой точкой - как при перетаскивании
+        movedPoints = new ArrayList<>(points);
+        Point2D last = movedPoints.getLast();
+        movedPoints.set(movedPoints.size() - 1, new Point2D(last.getX(), last.getY() + 1));
+        FittedCurve<Point2D> curve = strategy.fit(points);
+        startX = curve.getStartParameter();
+        endX = curve.getEndParameter();
+        buffer = new CurveBuffer();
+    }
+
+    @Benchmark
+    public List<Point2D> calculate() {
+        return strategy.calculate(points, segments);
+    }
+
+    @Benchmark
+    public CurveBuffer calculateIntoBuffer() {
+        strategy.calculate(points, segments, buffer);
+        return buffer;
+    }
+
+    // Точки не меняются: система решается один раз, дальше работает кэш fit()
+    @Benchmark
+    public void calculatePoint(Blackhole blackhole) {
+        for (int i = 0; i <= segments; i++) {
+            double t = (double) i / segments;
+            blackhole.consume(strategy.calculatePoint(points, startX + t * (endX - startX)));
+        }
+    }
+
+    // Наборы точек чередуются, поэтому каждый вызов заново решает систему
+    @Benchmark
+    public FittedCurve<Point2D> refit() {
+        useMoved = !useMoved;
+        return strategy.fit(useMoved ? movedPoints : points);
+    }
+}
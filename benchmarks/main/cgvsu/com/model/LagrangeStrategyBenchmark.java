@@ -0,0 +1,52 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LagrangeStrategyBenchmark {
+
+    @Param({"4", "16", "64"})
+    private int pointCount;
+
+    @Param({"100", "1000"})
+    private int segments;
+
+    private List<Point2D> points;
+    private CurveBuffer buffer;
+
+    @Setup
+    public void setup() {
+        points = BenchmarkPoints.generate(pointCount, 800, 600);
+        buffer = new CurveBuffer();
+    }
+
+    // Новая стратегия на каждый вызов: измеряется построение весов вместе с дискретизацией
+    @Benchmark
+    public List<Point2D> calculate() {
+        return new LagrangeStrategy().calculate(points, segments);
+    }
+
+    @Benchmark
+    public CurveBuffer calculateIntoBuffer() {
+        new LagrangeStrategy().calculate(points, segments, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public CurveBuffer calculateIntoBufferParallel() {
+        LagrangeStrategy strategy = new LagrangeStrategy();
+        strategy.setParallel(true);
+        strategy.setParallelThreshold(64);
+        strategy.calculate(points, segments, buffer);
+        return buffer;
+    }
+}
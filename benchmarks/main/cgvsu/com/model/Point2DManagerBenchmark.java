@@ -0,0 +1,50 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Point2DManagerBenchmark {
+    private static final double WIDTH = 800;
+    private static final double HEIGHT = 600;
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"16", "1024", "65536"})
+    private int pointCount;
+
+    @Param({"10"})
+    private double radius;
+
+    private Point2DManager manager;
+    private Point2D[] queries;
+    private int nextQuery;
+
+    @Setup
+    public void setup() {
+        manager = new Point2DManager();
+        for (Point2D point : BenchmarkPoints.generate(pointCount, WIDTH, HEIGHT)) {
+            manager.addPoint(point);
+        }
+
+        Random random = new Random(BenchmarkPoints.SEED + 1);
+        queries = new Point2D[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = new Point2D(random.nextDouble() * WIDTH, random.nextDouble() * HEIGHT);
+        }
+    }
+
+    @Benchmark
+    public int findNearestPointIndex() {
+        Point2D query = queries[nextQuery];
+        nextQuery = (nextQuery + 1) & (QUERY_COUNT - 1);
+        return manager.findNearestPointIndex(query, radius);
+    }
+}
@@ -4,6 +4,7 @@ import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import main.cgvsu.com.controller.InterpolationStrategyController;
 
 import java.io.IOException;
 
@@ -12,8 +13,10 @@ public class Main extends Application {
     public void start(Stage stage) throws IOException {
         FXMLLoader fxmlLoader = new FXMLLoader(Main.class.getResource("resources/main-window.fxml"));
         Scene scene = new Scene(fxmlLoader.load(), 1000, 600);
+        InterpolationStrategyController controller = fxmlLoader.getController();
         stage.setTitle("Curve Interpolation Visualizer");
         stage.setScene(scene);
+        stage.setOnHidden(event -> controller.shutdown());
         stage.show();
     }
 
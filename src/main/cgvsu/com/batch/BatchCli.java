@@ -0,0 +1,36 @@
+package main.cgvsu.com.batch;
+
+import java.io.IOException;
+
+// Точка входа пакетного режима; работает без дисплея и без запуска JavaFX.
+// Не наследует Application: для таких классов лаунчер java сам запускает
+// инструментарий JavaFX еще до вызова main
+public class BatchCli {
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    public static int run(String[] args) {
+        BatchOptions options;
+        try {
+            options = BatchOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(BatchOptions.USAGE);
+            return 2;
+        }
+
+        try {
+            BatchReport report = new BatchInterpolator(options, System.err).run();
+            System.out.println(report);
+            return report.failed() == 0 ? 0 : 1;
+        } catch (IOException e) {
+            System.err.println("Batch failed: " + e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package main.cgvsu.com.batch;
+
+import javafx.geometry.Point2D;
+import main.cgvsu.com.model.CurveBuffer;
+import main.cgvsu.com.model.CurveFile;
+import main.cgvsu.com.model.InterpolationStrategyFactory;
+import main.cgvsu.com.model.InterpolationStrategyImpl;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Строит кривые по файлам точек параллельно на нескольких потоках и пишет их
+// в один файл в порядке входных файлов: CSV ("curve,x,y") или, для имени на .bin,
+// CurveFile с блоком на кривую. Номер кривой - индекс входного файла, поэтому
+// пропущенные файлы не сдвигают номера следующих. Для .bin рядом пишется
+// <имя>.index ("block,curve,source") - соответствие блоков входным файлам.
+// Одновременно в работе не больше 2 * threads файлов, поэтому память не растет с числом входов
+public class BatchInterpolator {
+    private final BatchOptions options;
+    private final PrintStream log;
+
+    private record CurveResult(int index, Path source, int controlPoints, CurveBuffer curve, String error) {
+    }
+
+    private interface CurveOutput extends Closeable {
+        void write(int index, Path source, CurveBuffer curve) throws IOException;
+    }
+
+    public BatchInterpolator(BatchOptions options, PrintStream log) {
+        this.options = options;
+        this.log = log;
+    }
+
+    public BatchReport run() throws IOException, InterruptedException {
+        List<Path> files = PointFileReader.expandInputs(options.inputs());
+        int window = options.threads() * 2;
+
+        // Стратегии хранят состояние между вызовами, поэтому у каждого потока своя
+        ThreadLocal<InterpolationStrategyImpl<Point2D>> strategies = ThreadLocal.withInitial(
+                () -> InterpolationStrategyFactory.createStrategy(options.strategyType()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(options.threads());
+        long start = System.nanoTime();
+        int curves = 0;
+        int failed = 0;
+        long controlPoints = 0;
+        long points = 0;
+
+        try (CurveOutput output = openOutput(options.output())) {
+            Deque<Future<CurveResult>> pending = new ArrayDeque<>();
+            int next = 0;
+
+            while (next < files.size() || !pending.isEmpty()) {
+                while (next < files.size() && pending.size() < window) {
+                    int index = next++;
+                    Path file = files.get(index);
+                    pending.add(executor.submit(() -> compute(index, file, strategies.get())));
+                }
+
+                CurveResult result = await(pending.poll());
+                if (result.error() != null) {
+                    failed++;
+                    log.println("Skipped " + result.source() + ": " + result.error());
+                    continue;
+                }
+
+                output.write(result.index(), result.source(), result.curve());
+                curves++;
+                controlPoints += result.controlPoints();
+                points += result.curve().size();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new BatchReport(curves, failed, controlPoints, points, System.nanoTime() - start);
+    }
+
+    private CurveResult compute(int index, Path file, InterpolationStrategyImpl<Point2D> strategy) {
+        try {
+            List<Point2D> controlPoints = PointFileReader.read(file);
+            CurveBuffer curve = new CurveBuffer();
+
+            if (options.isAdaptive()) {
+                strategy.calculateAdaptive(controlPoints, options.tolerance(), curve);
+            } else {
+                strategy.calculate(controlPoints, options.segments(), curve);
+            }
+
+            return new CurveResult(index, file, controlPoints.size(), curve, null);
+        } catch (IOException | IllegalArgumentException e) {
+            return new CurveResult(index, file, 0, null, e.getMessage());
+        }
+    }
+
+    private static CurveResult await(Future<CurveResult> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Curve computation failed", e.getCause());
+        }
+    }
+
+    private static CurveOutput openOutput(Path file) throws IOException {
+        if (file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".bin")) {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            BufferedWriter index;
+            try {
+                index = Files.newBufferedWriter(indexFile(file));
+                index.write("block,curve,source\n");
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+            return new CurveOutput() {
+                private int blocks;
+
+                @Override
+                public void write(int curveIndex, Path source, CurveBuffer curve) throws IOException {
+                    CurveFile.append(channel, curve);
+                    index.write(blocks++ + "," + curveIndex + "," + source + "\n");
+                }
+
+                @Override
+                public void close() throws IOException {
+                    try (channel) {
+                        index.close();
+                    }
+                }
+            };
+        }
+
+        BufferedWriter writer = Files.newBufferedWriter(file);
+        writer.write("curve,x,y\n");
+        return new CurveOutput() {
+            @Override
+            public void write(int index, Path source, CurveBuffer curve) throws IOException {
+                writeCsv(writer, index, curve);
+            }
+
+            @Override
+            public void close() throws IOException {
+                writer.close();
+            }
+        };
+    }
+
+    // Соответствие блоков двоичного результата входным файлам: out.bin -> out.bin.index
+    static Path indexFile(Path output) {
+        return output.resolveSibling(output.getFileName() + ".index");
+    }
+
+    private static void writeCsv(Writer writer, int index, CurveBuffer curve) throws IOException {
+        String prefix = index + ",";
+        for (int i = 0; i < curve.size(); i++) {
+            writer.write(prefix);
+            writer.write(Double.toString(curve.getX(i)));
+            writer.write(',');
+            writer.write(Double.toString(curve.getY(i)));
+            writer.write('\n');
+        }
+    }
+}
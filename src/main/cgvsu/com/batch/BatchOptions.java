@@ -0,0 +1,112 @@
+package main.cgvsu.com.batch;
+
+import main.cgvsu.com.model.InterpolationStrategyFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Параметры пакетного режима. Если задан tolerance, кривые строятся адаптивно,
+// иначе - равномерно по segments
+public record BatchOptions(List<Path> inputs,
+                           Path output,
+                           InterpolationStrategyFactory.StrategyType strategyType,
+                           int segments,
+                           double tolerance,
+                           int threads) {
+
+    public static final String USAGE = String.join("\n",
+            "Usage: BatchCli --strategy <BEZIER|COMPOSITE_BEZIER|LAGRANGE|SPLINE|PARAMETRIC_SPLINE> --output <file>",
+            "                [--segments <n> | --tolerance <pixels>] [--threads <n>] <input>...",
+            "Inputs are .csv files (x,y per line) or .bin curve files, or directories containing them.",
+            "Output is CSV (curve,x,y) unless the file name ends with .bin;",
+            "curve is the input file index, and .bin output gets a <file>.index (block,curve,source) beside it");
+
+    public static final int DEFAULT_SEGMENTS = 100;
+
+    public BatchOptions {
+        inputs = List.copyOf(inputs);
+        if (inputs.isEmpty()) {
+            throw new IllegalArgumentException("At least one input is required");
+        }
+        if (output == null) {
+            throw new IllegalArgumentException("Output file is required");
+        }
+        if (strategyType == null) {
+            throw new IllegalArgumentException("Strategy is required");
+        }
+        if (segments <= 0) {
+            throw new IllegalArgumentException("Segments must be positive");
+        }
+        if (tolerance < 0 || Double.isNaN(tolerance)) {
+            throw new IllegalArgumentException("Tolerance must be positive");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Threads must be positive");
+        }
+    }
+
+    public boolean isAdaptive() {
+        return tolerance > 0;
+    }
+
+    public static BatchOptions parse(String[] args) {
+        List<Path> inputs = new ArrayList<>();
+        Path output = null;
+        InterpolationStrategyFactory.StrategyType strategyType = null;
+        int segments = DEFAULT_SEGMENTS;
+        double tolerance = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--output", "-o" -> output = Path.of(value(args, ++i, arg));
+                case "--strategy", "-s" -> strategyType = parseStrategy(value(args, ++i, arg));
+                case "--segments" -> segments = parseInt(value(args, ++i, arg), arg);
+                case "--tolerance" -> tolerance = parseDouble(value(args, ++i, arg), arg);
+                case "--threads" -> threads = parseInt(value(args, ++i, arg), arg);
+                default -> {
+                    if (arg.startsWith("-")) {
+                        throw new IllegalArgumentException("Unknown option: " + arg);
+                    }
+                    inputs.add(Path.of(arg));
+                }
+            }
+        }
+
+        return new BatchOptions(inputs, output, strategyType, segments, tolerance, threads);
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    private static InterpolationStrategyFactory.StrategyType parseStrategy(String value) {
+        try {
+            return InterpolationStrategyFactory.StrategyType.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown strategy type: " + value);
+        }
+    }
+
+    private static int parseInt(String value, String option) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + option + ": " + value);
+        }
+    }
+
+    private static double parseDouble(String value, String option) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + option + ": " + value);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package main.cgvsu.com.batch;
+
+import java.util.Locale;
+
+// Итог пакетной обработки; points - число вершин построенных кривых
+public record BatchReport(int curves, int failed, long controlPoints, long points, long elapsedNanos) {
+
+    public double elapsedSeconds() {
+        return elapsedNanos / 1e9;
+    }
+
+    public double curvesPerSecond() {
+        return elapsedNanos > 0 ? curves / elapsedSeconds() : 0;
+    }
+
+    public double pointsPerSecond() {
+        return elapsedNanos > 0 ? points / elapsedSeconds() : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "curves: %d (failed: %d), control points: %d, curve points: %d%n"
+                        + "elapsed: %.3f s, %.1f curves/s, %.1f points/s",
+                curves, failed, controlPoints, points,
+                elapsedSeconds(), curvesPerSecond(), pointsPerSecond());
+    }
+}
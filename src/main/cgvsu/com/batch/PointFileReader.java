@@ -0,0 +1,99 @@
+package main.cgvsu.com.batch;
+
+import javafx.geometry.Point2D;
+import main.cgvsu.com.model.CurveFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+// Чтение контрольных точек из файлов пакетного режима:
+// .csv - строки "x,y" (строки с # и нечисловой заголовок пропускаются),
+// .bin - двоичный формат CurveFile
+public final class PointFileReader {
+
+    private PointFileReader() {
+    }
+
+    public static boolean isSupported(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".csv") || name.endsWith(".bin");
+    }
+
+    // Раскрывает каталоги в отсортированный список поддерживаемых файлов
+    public static List<Path> expandInputs(List<Path> inputs) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path input : inputs) {
+            if (Files.isDirectory(input)) {
+                try (Stream<Path> children = Files.list(input)) {
+                    children.filter(Files::isRegularFile)
+                            .filter(PointFileReader::isSupported)
+                            .sorted()
+                            .forEach(files::add);
+                }
+            } else {
+                files.add(input);
+            }
+        }
+        return files;
+    }
+
+    public static List<Point2D> read(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".bin")) {
+            return readBinary(file);
+        }
+        if (name.endsWith(".csv")) {
+            return readCsv(file);
+        }
+        throw new IllegalArgumentException("Unsupported file format: " + file);
+    }
+
+    static List<Point2D> readCsv(Path file) throws IOException {
+        List<Point2D> points = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            int lineNumber = 0;
+            boolean headerAllowed = true;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                int separator = line.indexOf(',');
+                if (separator < 0) {
+                    separator = line.indexOf(';');
+                }
+                if (separator < 0) {
+                    throw new IllegalArgumentException(file + ":" + lineNumber + ": expected x,y");
+                }
+
+                try {
+                    double x = Double.parseDouble(line.substring(0, separator).strip());
+                    double y = Double.parseDouble(line.substring(separator + 1).strip());
+                    points.add(new Point2D(x, y));
+                } catch (NumberFormatException e) {
+                    // Заголовок допускается только в первой значимой строке
+                    if (!headerAllowed) {
+                        throw new IllegalArgumentException(file + ":" + lineNumber + ": invalid number");
+                    }
+                }
+                headerAllowed = false;
+            }
+        }
+
+        return points;
+    }
+
+    static List<Point2D> readBinary(Path file) throws IOException {
+        return CurveFile.read(file).toPointList();
+    }
+}
@@ -0,0 +1,172 @@
+package main.cgvsu.com.controller;
+
+import main.cgvsu.com.model.CurveBuffer;
+import main.cgvsu.com.model.InterpolationStrategyFactory.StrategyType;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// LRU-кэш вычисленных кривых. Размер ограничен и числом кривых, и суммарным
+// числом вершин, чтобы несколько огромных кривых не занимали память бесконечно.
+// Кэш хранит собственные копии буферов. Версия точек только растет, поэтому кэш держит
+// кривые одной, последней версии (разные стратегии, дискретизации, масштабы): записи
+// старых версий удаляются при появлении новой, а их буферы переиспользуются для копий.
+// Не потокобезопасен, используется из потока JavaFX
+public class CurveCache {
+
+    // segments равен 0 для адаптивной дискретизации, tolerance - для равномерной.
+    // degreeSplitting - настройка стратегии, влияющая на результат.
+    // strategyType равен null для режима сравнения всех стратегий (такие кривые не кэшируются)
+    public record Key(long pointsVersion, StrategyType strategyType, int segments, double tolerance,
+                      boolean degreeSplitting) {
+
+        public static Key uniform(long pointsVersion, StrategyType strategyType, int segments, boolean degreeSplitting) {
+            return new Key(pointsVersion, strategyType, segments, 0, degreeSplitting);
+        }
+
+        public static Key adaptive(long pointsVersion, StrategyType strategyType, double tolerance, boolean degreeSplitting) {
+            return new Key(pointsVersion, strategyType, 0, tolerance, degreeSplitting);
+        }
+    }
+
+    public static final int DEFAULT_MAX_ENTRIES = 32;
+    public static final int DEFAULT_MAX_POINTS = 1 << 20;
+
+    private final int maxEntries;
+    private final int maxPoints;
+    // Порядок доступа: первой идет давно не использованная кривая
+    private final LinkedHashMap<Key, CurveBuffer> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private int totalPoints;
+    private long currentVersion = Long.MIN_VALUE;
+
+    // Буферы удаленных записей; суммарная емкость не больше maxPoints
+    private final ArrayDeque<CurveBuffer> spareBuffers = new ArrayDeque<>();
+    private int sparePoints;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long invalidationCount;
+
+    public CurveCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_POINTS);
+    }
+
+    public CurveCache(int maxEntries, int maxPoints) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Max entries must be positive");
+        }
+        if (maxPoints < 1) {
+            throw new IllegalArgumentException("Max points must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxPoints = maxPoints;
+    }
+
+    // Копирует кривую в target и возвращает true, если она есть в кэше
+    public boolean get(Key key, CurveBuffer target) {
+        advanceVersion(key.pointsVersion());
+        CurveBuffer cached = entries.get(key);
+        if (cached == null) {
+            missCount++;
+            return false;
+        }
+        hitCount++;
+        target.clear();
+        target.addAll(cached);
+        return true;
+    }
+
+    // Кривая, которая больше всего кэша, и кривая устаревшей версии точек не сохраняются
+    public void put(Key key, CurveBuffer curve) {
+        advanceVersion(key.pointsVersion());
+        if (curve.size() > maxPoints || key.pointsVersion() < currentVersion) {
+            return;
+        }
+
+        CurveBuffer copy = obtainBuffer();
+        copy.addAll(curve);
+        CurveBuffer previous = entries.put(key, copy);
+        if (previous != null) {
+            totalPoints -= previous.size();
+            recycle(previous);
+        }
+        totalPoints += copy.size();
+
+        Iterator<Map.Entry<Key, CurveBuffer>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries || totalPoints > maxPoints) {
+            CurveBuffer evicted = iterator.next().getValue();
+            iterator.remove();
+            totalPoints -= evicted.size();
+            recycle(evicted);
+            evictionCount++;
+        }
+    }
+
+    public void clear() {
+        for (CurveBuffer buffer : entries.values()) {
+            recycle(buffer);
+        }
+        entries.clear();
+        totalPoints = 0;
+    }
+
+    // Записи старых версий больше не могут быть запрошены
+    private void advanceVersion(long version) {
+        if (version <= currentVersion) {
+            return;
+        }
+        currentVersion = version;
+        invalidationCount += entries.size();
+        clear();
+    }
+
+    private CurveBuffer obtainBuffer() {
+        CurveBuffer buffer = spareBuffers.poll();
+        if (buffer == null) {
+            return new CurveBuffer();
+        }
+        sparePoints -= buffer.capacity();
+        return buffer;
+    }
+
+    private void recycle(CurveBuffer buffer) {
+        if (sparePoints + buffer.capacity() > maxPoints) {
+            return;
+        }
+        buffer.clear();
+        spareBuffers.push(buffer);
+        sparePoints += buffer.capacity();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public int getTotalPoints() {
+        return totalPoints;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    // Записи, удаленные из-за появления новой версии точек
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+}
@@ -0,0 +1,128 @@
+package main.cgvsu.com.controller;
+
+import javafx.application.Platform;
+import main.cgvsu.com.model.CurveBuffer;
+import main.cgvsu.com.model.CurveCancellation;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Вычисление кривой вне потока JavaFX по принципу "побеждает последний запрос".
+// Все задачи выполняются одним рабочим потоком, поэтому стратегии с внутренним
+// состоянием не нужно синхронизировать. Устаревшая задача пропускается, если
+// еще не началась; уже идущая прерывается на ближайшей проверке CurveCancellation
+// в циклах дискретизации, а ее частичный результат отбрасывается
+public class CurveComputationService {
+
+    @FunctionalInterface
+    public interface CurveTask {
+        void compute(CurveBuffer buffer);
+    }
+
+    // elapsedNanos - время вычисления в рабочем потоке без ожидания в очереди
+    public record Result(CurveBuffer curve, String error, long elapsedNanos) {
+    }
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("curve-worker").factory());
+    private final AtomicLong latestGeneration = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    // Буферы возвращаются сюда после отрисовки, чтобы не создавать новые на каждый запрос
+    private final ConcurrentLinkedQueue<CurveBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+
+    // Вызывается в потоке JavaFX и получает буфер во владение
+    private final Consumer<Result> resultHandler;
+
+    public CurveComputationService(Consumer<Result> resultHandler) {
+        this.resultHandler = resultHandler;
+    }
+
+    public void submit(CurveTask task) {
+        long generation = latestGeneration.incrementAndGet();
+        executor.execute(() -> run(generation, task));
+    }
+
+    // Делает устаревшими все отправленные задачи
+    public void cancelAll() {
+        latestGeneration.incrementAndGet();
+    }
+
+    public void recycle(CurveBuffer buffer) {
+        if (buffer != null) {
+            buffer.clear();
+            bufferPool.offer(buffer);
+        }
+    }
+
+    // Буфер из пула или новый, если пул пуст
+    public CurveBuffer obtainBuffer() {
+        CurveBuffer buffer = bufferPool.poll();
+        return buffer != null ? buffer : new CurveBuffer();
+    }
+
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(long generation, CurveTask task) {
+        if (isStale(generation)) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+
+        CurveBuffer buffer = obtainBuffer();
+
+        String error = null;
+        long start = System.nanoTime();
+        try {
+            CurveCancellation.run(() -> isStale(generation), () -> task.compute(buffer));
+        } catch (IllegalArgumentException e) {
+            buffer.clear();
+            error = e.getMessage();
+        } catch (CancellationException e) {
+            droppedCount.incrementAndGet();
+            recycle(buffer);
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        if (isStale(generation)) {
+            droppedCount.incrementAndGet();
+            recycle(buffer);
+            return;
+        }
+
+        Result result = new Result(buffer, error, elapsedNanos);
+        Platform.runLater(() -> deliver(generation, result));
+    }
+
+    private void deliver(long generation, Result result) {
+        // Пока результат ждал очереди JavaFX, мог прийти более новый запрос
+        if (isStale(generation)) {
+            droppedCount.incrementAndGet();
+            recycle(result.curve());
+            return;
+        }
+
+        completedCount.incrementAndGet();
+        resultHandler.accept(result);
+    }
+
+    private boolean isStale(long generation) {
+        return generation != latestGeneration.get();
+    }
+}
@@ -4,71 +4,182 @@ import javafx.fxml.FXML;
 import javafx.geometry.Point2D;
 import javafx.scene.Cursor;
 import javafx.scene.canvas.Canvas;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.RadioButton;
 import javafx.scene.control.Slider;
+import javafx.scene.control.Toggle;
 import javafx.scene.control.ToggleGroup;
 import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.AnchorPane;
+import javafx.stage.FileChooser;
+import main.cgvsu.com.metrics.FrameMetrics;
 import main.cgvsu.com.model.*;
 import main.cgvsu.com.view.InterpolationViewerImpl;
 import main.cgvsu.com.view.Point2DViewer;
+import main.cgvsu.com.view.Viewport;
 
+
+import javax.management.JMException;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 public class InterpolationStrategyController {
 
     @FXML
     private AnchorPane anchorPane;
 
+    @FXML
+    private Canvas curveCanvas;
+
+    @FXML
+    private Canvas polygonCanvas;
+
+    // Слой контрольных точек; единственный слой, принимающий события мыши
     @FXML
     private Canvas canvas;
 
+    @FXML
+    private Canvas hudCanvas;
+
     @FXML
     private RadioButton bezierRadio;
 
+    @FXML
+    private RadioButton compositeBezierRadio;
+
     @FXML
     private RadioButton lagrangeRadio;
 
     @FXML
     private RadioButton splineRadio;
 
+    @FXML
+    private RadioButton parametricSplineRadio;
+
     @FXML
     private Slider segmentsSlider;
 
     @FXML
     private Label segmentsLabel;
 
+    @FXML
+    private CheckBox adaptiveCheckBox;
+
+    @FXML
+    private CheckBox degreeSplittingCheckBox;
+
+    @FXML
+    private CheckBox overlayCheckBox;
+
+    @FXML
+    private Button savePointsButton;
+
+    @FXML
+    private Button loadPointsButton;
+
+    @FXML
+    private Button resetViewButton;
+
     private ToggleGroup InterpolationTypeGroup;
 
     private final PointManagerImpl<Point2D> pointManager = new Point2DManager();
     private InterpolationStrategyImpl<Point2D> currentStrategy;
+    private InterpolationStrategyFactory.StrategyType currentStrategyType;
     private final InterpolationViewerImpl<Point2D> interpolationViewer = new Point2DViewer();
+    // Точки хранятся в мировых координатах; панорамирование меняет только отрисовку
+    private final Viewport viewport = new Viewport();
+    private final CurveComputationService curveComputationService =
+            new CurveComputationService(this::applyCurveResult);
+    private final RenderScheduler renderScheduler = new RenderScheduler(new RenderScheduler.FrameHandler() {
+        @Override
+        public void recomputeCurve() {
+            submitCurveComputation();
+        }
+
+        @Override
+        public void render(int dirtyLayers) {
+            renderLayers(dirtyLayers);
+        }
+    });
+
+    // Последняя вычисленная кривая; принадлежит потоку JavaFX
+    private CurveBuffer displayedCurve;
+    private String curveError;
+
+    // Параметры последнего отправленного вычисления: если ни точки, ни настройки
+    // не изменились, пересчитывать кривую не нужно
+    private CurveCache.Key submittedKey;
+    // Уже вычисленные кривые: при возврате к прежней стратегии или числу сегментов
+    // кривая берется отсюда без обращения к стратегии
+    private final CurveCache curveCache = new CurveCache();
+
+    // Режим сравнения всех стратегий; создается в initialize, когда доступны элементы управления
+    private StrategyOverlay strategyOverlay;
+    // Подписи стратегий берутся из переключателей
+    private final EnumMap<InterpolationStrategyFactory.StrategyType, String> strategyNames =
+            new EnumMap<>(InterpolationStrategyFactory.StrategyType.class);
+
+    // Время этапов каждого кадра, также доступно через JMX
+    private final FrameMetrics frameMetrics = new FrameMetrics();
+    // Причина, по которой метрики не опубликованы через JMX; метрики в окне работают и без JMX
+    private String metricsJmxError;
 
     private int segments = 100;
     private boolean isDragging = false;
     private int draggedPointIndex = -1;
+    private boolean isPanning = false;
+    private double panLastX;
+    private double panLastY;
+    // Радиус захвата точки в пикселях экрана, не зависит от масштаба
     private static final double DRAG_RADIUS = 10.0;
+    // Изменение масштаба за один шаг колеса мыши
+    private static final double ZOOM_STEP = 1.1;
+    // Допустимое отклонение ломаной от кривой в пикселях для адаптивной дискретизации
+    private static final double ADAPTIVE_TOLERANCE = 0.25;
 
     @FXML
     private void initialize() {
         setupInterpolationTypeGroup();
         setupCanvasResizeListeners();
         setupMouseHandlers();
+        setupViewport();
         setupSegmentsSlider();
+        setupAdaptiveCheckBox();
+        setupDegreeSplittingCheckBox();
+        setupOverlayCheckBox();
+        setupPointFileButtons();
+        setupMetrics();
         updateStrategy();
+        renderScheduler.invalidate(RenderScheduler.ALL_LAYERS);
+        renderScheduler.start();
     }
 
     private void setupInterpolationTypeGroup() {
         InterpolationTypeGroup = new ToggleGroup();
         bezierRadio.setToggleGroup(InterpolationTypeGroup);
+        compositeBezierRadio.setToggleGroup(InterpolationTypeGroup);
         lagrangeRadio.setToggleGroup(InterpolationTypeGroup);
         splineRadio.setToggleGroup(InterpolationTypeGroup);
+        parametricSplineRadio.setToggleGroup(InterpolationTypeGroup);
+
+        for (Toggle toggle : InterpolationTypeGroup.getToggles()) {
+            RadioButton radio = (RadioButton) toggle;
+            strategyNames.put(InterpolationStrategyFactory.StrategyType.valueOf(radio.getUserData().toString()),
+                    radio.getText());
+        }
 
         InterpolationTypeGroup.selectedToggleProperty().addListener((observable, oldValue, newValue) -> {
             if (newValue != null) {
                 updateStrategy();
-                redrawCanvas();
+                invalidateCurve();
             }
         });
     }
@@ -77,44 +188,192 @@ public class InterpolationStrategyController {
         segmentsSlider.valueProperty().addListener((observable, oldValue, newValue) -> {
             segments = newValue.intValue();
             segmentsLabel.setText("Сегментов: " + segments);
-            redrawCanvas();
+            invalidateCurve();
         });
 
         segmentsLabel.setText("Сегментов: " + segments);
     }
 
+    private void setupAdaptiveCheckBox() {
+        adaptiveCheckBox.selectedProperty().addListener((observable, oldValue, newValue) -> {
+            segmentsSlider.setDisable(newValue);
+            invalidateCurve();
+        });
+    }
+
+    // Стратегия создается заново, а не перенастраивается: старый экземпляр
+    // может еще использоваться рабочим потоком
+    private void setupDegreeSplittingCheckBox() {
+        degreeSplittingCheckBox.selectedProperty().addListener((observable, oldValue, newValue) -> {
+            updateStrategy();
+            if (strategyOverlay != null) {
+                strategyOverlay.recreateStrategies();
+            }
+            invalidateCurve();
+        });
+    }
+
+    private void setupOverlayCheckBox() {
+        strategyOverlay = new StrategyOverlay(this::createStrategy,
+                () -> renderScheduler.invalidate(RenderScheduler.CURVE | RenderScheduler.OVERLAY));
+
+        overlayCheckBox.selectedProperty().addListener((observable, oldValue, newValue) -> {
+            if (!newValue) {
+                strategyOverlay.clear();
+            }
+            invalidateCurve();
+        });
+    }
+
+    // Вызывается при закрытии окна: рабочие потоки и таймер отрисовки больше не нужны
+    public void shutdown() {
+        renderScheduler.stop();
+        curveComputationService.shutdown();
+        strategyOverlay.shutdown();
+        if (metricsJmxError == null) {
+            try {
+                frameMetrics.unregisterMBeans();
+            } catch (JMException e) {
+                metricsJmxError = e.getMessage();
+            }
+        }
+    }
+
+    // Без JMX приложение работает как прежде, метрики остаются в отладочной панели
+    private void setupMetrics() {
+        try {
+            frameMetrics.registerMBeans();
+        } catch (JMException e) {
+            metricsJmxError = e.getMessage();
+        }
+    }
+
+    private void setupPointFileButtons() {
+        savePointsButton.setOnAction(event -> {
+            File file = createPointFileChooser("Сохранить точки").showSaveDialog(canvas.getScene().getWindow());
+            if (file != null) {
+                try {
+                    pointManager.savePoints(file.toPath());
+                } catch (IOException e) {
+                    showFileError("Не удалось сохранить точки", e);
+                }
+            }
+        });
+
+        loadPointsButton.setOnAction(event -> {
+            File file = createPointFileChooser("Загрузить точки").showOpenDialog(canvas.getScene().getWindow());
+            if (file != null) {
+                try {
+                    pointManager.loadPoints(file.toPath());
+                    resetDragging();
+                    invalidateCurve();
+                } catch (IOException e) {
+                    showFileError("Не удалось загрузить точки", e);
+                }
+            }
+        });
+    }
+
+    private FileChooser createPointFileChooser(String title) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle(title);
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Точки (*.bin)", "*.bin"));
+        return chooser;
+    }
+
+    private void showFileError(String header, IOException e) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setHeaderText(header);
+        alert.setContentText(e.getMessage());
+        alert.showAndWait();
+    }
+
     private void updateStrategy() {
         RadioButton selectedRadio = (RadioButton) InterpolationTypeGroup.getSelectedToggle();
         String selectedType = selectedRadio.getUserData().toString();
 
-        currentStrategy = InterpolationStrategyFactory.createStrategy(
-                InterpolationStrategyFactory.StrategyType.valueOf(selectedType)
-        );
+        currentStrategyType = InterpolationStrategyFactory.StrategyType.valueOf(selectedType);
+        currentStrategy = createStrategy(currentStrategyType);
+    }
+
+    private InterpolationStrategyImpl<Point2D> createStrategy(InterpolationStrategyFactory.StrategyType type) {
+        InterpolationStrategyImpl<Point2D> strategy = InterpolationStrategyFactory.createStrategy(type);
+
+        // Составная кривая уже состоит из кубических сегментов
+        if (strategy instanceof BezierStrategy bezier && !(strategy instanceof CompositeBezierStrategy)
+                && degreeSplittingCheckBox.isSelected()) {
+            bezier.setDegreeSplitting(BezierStrategy.DegreeSplitting.C2);
+        }
+        return strategy;
     }
 
     private void setupCanvasResizeListeners() {
         anchorPane.prefWidthProperty().addListener((ov, oldValue, newValue) -> {
-            canvas.setWidth(newValue.doubleValue());
-            redrawCanvas();
+            for (Canvas layer : getLayers()) {
+                layer.setWidth(newValue.doubleValue());
+            }
+            renderScheduler.invalidate(RenderScheduler.ALL_LAYERS);
         });
 
         anchorPane.prefHeightProperty().addListener((ov, oldValue, newValue) -> {
-            canvas.setHeight(newValue.doubleValue());
-            redrawCanvas();
+            for (Canvas layer : getLayers()) {
+                layer.setHeight(newValue.doubleValue());
+            }
+            renderScheduler.invalidate(RenderScheduler.ALL_LAYERS);
         });
     }
 
+    private List<Canvas> getLayers() {
+        return List.of(curveCanvas, polygonCanvas, canvas, hudCanvas);
+    }
+
     private void setupMouseHandlers() {
         canvas.setOnMouseClicked(this::handleMouseClick);
         canvas.setOnMousePressed(this::handleMousePressed);
         canvas.setOnMouseDragged(this::handleMouseDragged);
         canvas.setOnMouseReleased(this::handleMouseReleased);
         canvas.setOnMouseMoved(this::handleMouseMoved);
+        canvas.setOnScroll(this::handleScroll);
+    }
+
+    private void setupViewport() {
+        interpolationViewer.setViewport(viewport);
+        resetViewButton.setOnAction(event -> {
+            viewport.reset();
+            invalidateViewport();
+        });
+    }
+
+    // Панорамирование только перерисовывает кадр. Масштаб меняет допуск адаптивной
+    // дискретизации лишь при переходе в другую корзину масштаба, иначе ключ кривой
+    // совпадает с отправленным и пересчета не будет
+    private void invalidateViewport() {
+        if (adaptiveCheckBox.isSelected()) {
+            renderScheduler.invalidateCurveGeometry();
+        }
+        renderScheduler.invalidate(RenderScheduler.ALL_LAYERS);
+    }
+
+    private void handleScroll(ScrollEvent event) {
+        if (event.getDeltaY() == 0) {
+            return;
+        }
+        double factor = event.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP;
+        viewport.zoomAt(event.getX(), event.getY(), factor);
+        invalidateViewport();
+    }
+
+    private Point2D toWorld(MouseEvent event) {
+        return viewport.toWorld(event.getX(), event.getY());
+    }
+
+    private double getPickRadius() {
+        return viewport.toWorldDistance(DRAG_RADIUS);
     }
 
     private void handleMouseMoved(MouseEvent event) {
-        Point2D mousePoint = new Point2D(event.getX(), event.getY());
-        int nearestIndex = pointManager.findNearestPointIndex(mousePoint, DRAG_RADIUS);
+        Point2D mousePoint = toWorld(event);
+        int nearestIndex = pointManager.findNearestPointIndex(mousePoint, getPickRadius());
 
         if (nearestIndex != -1 && !isDragging) {
             canvas.setCursor(Cursor.HAND);
@@ -124,7 +383,7 @@ public class InterpolationStrategyController {
     }
 
     private void handleMouseClick(MouseEvent event) {
-        Point2D clickPoint = new Point2D(event.getX(), event.getY());
+        Point2D clickPoint = toWorld(event);
 
         if (event.getButton() == javafx.scene.input.MouseButton.PRIMARY) {
             handlePrimaryClick(clickPoint);
@@ -134,14 +393,14 @@ public class InterpolationStrategyController {
     }
 
     private void handlePrimaryClick(Point2D clickPoint) {
-        if (pointManager.findNearestPoint(clickPoint, DRAG_RADIUS) == null) {
+        if (pointManager.findNearestPoint(clickPoint, getPickRadius()) == null) {
             pointManager.addPoint(clickPoint);
-            redrawCanvas();
+            invalidateCurve();
         }
     }
 
     private void handleSecondaryClick(Point2D clickPoint) {
-        int nearestIndex = pointManager.findNearestPointIndex(clickPoint, DRAG_RADIUS);
+        int nearestIndex = pointManager.findNearestPointIndex(clickPoint, getPickRadius());
 
         if (nearestIndex != -1) {
             pointManager.removePoint(nearestIndex);
@@ -150,26 +409,36 @@ public class InterpolationStrategyController {
         }
 
         resetDragging();
-        redrawCanvas();
+        invalidateCurve();
     }
 
     private void handleMousePressed(MouseEvent event) {
         if (event.isPrimaryButtonDown()) {
-            Point2D clickPoint = new Point2D(event.getX(), event.getY());
-            draggedPointIndex = pointManager.findNearestPointIndex(clickPoint, DRAG_RADIUS);
+            Point2D clickPoint = toWorld(event);
+            draggedPointIndex = pointManager.findNearestPointIndex(clickPoint, getPickRadius());
 
             if (draggedPointIndex != -1) {
                 isDragging = true;
                 canvas.setCursor(Cursor.CLOSED_HAND);
             }
+        } else if (event.isMiddleButtonDown()) {
+            isPanning = true;
+            panLastX = event.getX();
+            panLastY = event.getY();
+            canvas.setCursor(Cursor.MOVE);
         }
     }
 
     private void handleMouseDragged(MouseEvent event) {
-        if (isDragging && draggedPointIndex != -1) {
-            Point2D newPosition = new Point2D(event.getX(), event.getY());
+        if (isPanning) {
+            viewport.pan(event.getX() - panLastX, event.getY() - panLastY);
+            panLastX = event.getX();
+            panLastY = event.getY();
+            renderScheduler.invalidate(RenderScheduler.ALL_LAYERS);
+        } else if (isDragging && draggedPointIndex != -1) {
+            Point2D newPosition = toWorld(event);
             pointManager.updatePoint(draggedPointIndex, newPosition);
-            redrawCanvas();
+            invalidateCurve();
         }
     }
 
@@ -179,32 +448,173 @@ public class InterpolationStrategyController {
 
     private void resetDragging() {
         isDragging = false;
+        isPanning = false;
         draggedPointIndex = -1;
         canvas.setCursor(Cursor.DEFAULT);
-        redrawCanvas();
+        renderScheduler.invalidate(RenderScheduler.CONTROL_POINTS | RenderScheduler.OVERLAY);
     }
 
-    private void redrawCanvas() {
-        interpolationViewer.clearCanvas(canvas);
+    // Точки или параметры кривой изменились: точки перерисуются в ближайшем кадре,
+    // кривая будет пересчитана один раз за кадр независимо от числа событий
+    private void invalidateCurve() {
+        renderScheduler.invalidateCurveGeometry();
+        renderScheduler.invalidate(RenderScheduler.CONTROL_POINTS | RenderScheduler.CONTROL_POLYGON | RenderScheduler.OVERLAY);
+    }
 
-        List<Point2D> points = pointManager.getPoints();
+    // Отправляет вычисление кривой в фоновый поток; кривая перерисуется, когда придет результат
+    private void submitCurveComputation() {
+        if (!pointManager.hasEnoughPointsForCurve() || currentStrategy == null) {
+            curveComputationService.cancelAll();
+            curveComputationService.recycle(displayedCurve);
+            displayedCurve = null;
+            curveError = null;
+            submittedKey = null;
+            strategyOverlay.clear();
+            renderScheduler.invalidate(RenderScheduler.CURVE | RenderScheduler.OVERLAY);
+        } else {
+            // Снимок неизменяем, поэтому рабочий поток читает его без копирования
+            long snapshotStart = System.nanoTime();
+            PointSnapshot<Point2D> snapshot = pointManager.getSnapshot();
+            frameMetrics.recordSince(FrameMetrics.Stage.SNAPSHOT, snapshotStart);
+            InterpolationStrategyImpl<Point2D> strategy = currentStrategy;
+            int segmentCount = segments;
+            boolean adaptive = adaptiveCheckBox.isSelected();
+            double tolerance = viewport.toWorldTolerance(ADAPTIVE_TOLERANCE);
+            boolean overlay = overlayCheckBox.isSelected();
+            InterpolationStrategyFactory.StrategyType strategyType = overlay ? null : currentStrategyType;
+            boolean degreeSplitting = overlay
+                    ? degreeSplittingCheckBox.isSelected()
+                    : strategy instanceof BezierStrategy bezier
+                            && bezier.getDegreeSplitting() != BezierStrategy.DegreeSplitting.NONE;
+
+            CurveCache.Key key = adaptive
+                    ? CurveCache.Key.adaptive(snapshot.version(), strategyType, tolerance, degreeSplitting)
+                    : CurveCache.Key.uniform(snapshot.version(), strategyType, segmentCount, degreeSplitting);
+            if (key.equals(submittedKey)) {
+                return;
+            }
+            submittedKey = key;
 
-        interpolationViewer.drawControlPoints(canvas, points, draggedPointIndex);
+            // В режиме сравнения кривые не кэшируются: все стратегии считаются заново одновременно
+            if (overlay) {
+                curveComputationService.cancelAll();
+                strategyOverlay.submit(snapshot.points(), segmentCount, adaptive ? tolerance : 0);
+                return;
+            }
 
-        if (pointManager.hasEnoughPointsForCurve() && currentStrategy != null) {
-            try {
-                List<Point2D> curvePoints = currentStrategy.calculate(points, segments);
-                interpolationViewer.drawCurve(canvas, curvePoints);
+            CurveBuffer cached = curveComputationService.obtainBuffer();
+            if (curveCache.get(key, cached)) {
+                // Отправленные ранее вычисления больше не нужны
+                curveComputationService.cancelAll();
+                showCurve(cached, null);
+                return;
+            }
+            curveComputationService.recycle(cached);
+
+            List<Point2D> points = snapshot.points();
+            curveComputationService.submit(buffer -> {
+                if (adaptive) {
+                    strategy.calculateAdaptive(points, tolerance, buffer);
+                } else {
+                    strategy.calculate(points, segmentCount, buffer);
+                }
+            });
+        }
+    }
+
+    // Доставляется только результат последнего отправленного вычисления
+    // (остальные отбрасывает сервис), поэтому он соответствует submittedKey
+    private void applyCurveResult(CurveComputationService.Result result) {
+        frameMetrics.record(FrameMetrics.Stage.CURVE_COMPUTATION, result.elapsedNanos());
+        if (result.error() == null && submittedKey != null) {
+            curveCache.put(submittedKey, result.curve());
+        }
+        showCurve(result.curve(), result.error());
+    }
 
-                if (currentStrategy instanceof BezierStrategy) {
-                    interpolationViewer.drawControlPolygon(canvas, points);
+    private void showCurve(CurveBuffer curve, String error) {
+        curveComputationService.recycle(displayedCurve);
+        displayedCurve = curve;
+        curveError = error;
+        renderScheduler.invalidate(RenderScheduler.CURVE | RenderScheduler.OVERLAY);
+    }
+
+    // Каждый слой - отдельный холст, перерисовываются только изменившиеся слои:
+    // при перетаскивании точки кривая остается на месте до прихода нового результата
+    private void renderLayers(int layers) {
+        long frameStart = System.nanoTime();
+        List<Point2D> points = pointManager.getPoints();
+        boolean hasCurve = pointManager.hasEnoughPointsForCurve();
+        boolean overlay = overlayCheckBox.isSelected();
+
+        if ((layers & RenderScheduler.CURVE) != 0) {
+            clearLayer(curveCanvas);
+            long stageStart = System.nanoTime();
+            if (hasCurve && overlay) {
+                for (Map.Entry<InterpolationStrategyFactory.StrategyType, CurveComputationService.Result> entry
+                        : strategyOverlay.getResults().entrySet()) {
+                    interpolationViewer.drawCurve(curveCanvas, entry.getValue().curve(), entry.getKey().ordinal());
                 }
-            } catch (IllegalArgumentException e) {
-                interpolationViewer.drawErrorText(canvas, "Ошибка: " + e.getMessage());
+            } else if (hasCurve && displayedCurve != null) {
+                interpolationViewer.drawCurve(curveCanvas, displayedCurve);
+            }
+            frameMetrics.recordSince(FrameMetrics.Stage.DRAW_CURVE, stageStart);
+        }
+
+        if ((layers & RenderScheduler.CONTROL_POLYGON) != 0) {
+            clearLayer(polygonCanvas);
+            if (hasCurve && (overlay || currentStrategy instanceof BezierStrategy)) {
+                long stageStart = System.nanoTime();
+                interpolationViewer.drawControlPolygon(polygonCanvas, points);
+                frameMetrics.recordSince(FrameMetrics.Stage.DRAW_CONTROL_POLYGON, stageStart);
+            }
+        }
+
+        if ((layers & RenderScheduler.CONTROL_POINTS) != 0) {
+            clearLayer(canvas);
+            long stageStart = System.nanoTime();
+            interpolationViewer.drawControlPoints(canvas, points, draggedPointIndex);
+            frameMetrics.recordSince(FrameMetrics.Stage.DRAW_CONTROL_POINTS, stageStart);
+        }
+
+        if ((layers & RenderScheduler.OVERLAY) != 0) {
+            clearLayer(hudCanvas);
+            if (hasCurve && overlay) {
+                interpolationViewer.drawLegend(hudCanvas, getOverlayLegend());
+            } else if (hasCurve && curveError != null) {
+                interpolationViewer.drawErrorText(hudCanvas, "Ошибка: " + curveError);
             }
+
+            long stageStart = System.nanoTime();
+            interpolationViewer.drawDebugInfo(hudCanvas, getDebugInfo());
+            frameMetrics.recordSince(FrameMetrics.Stage.DRAW_DEBUG_INFO, stageStart);
         }
 
-        interpolationViewer.drawDebugInfo(canvas, getDebugInfo());
+        frameMetrics.recordSince(FrameMetrics.Stage.FRAME, frameStart);
+    }
+
+    private void clearLayer(Canvas layer) {
+        long start = System.nanoTime();
+        interpolationViewer.clearCanvas(layer);
+        frameMetrics.recordSince(FrameMetrics.Stage.DRAW_CLEAR, start);
+    }
+
+    // Строка на каждую стратегию в порядке StrategyType, как и цвета кривых
+    private List<String> getOverlayLegend() {
+        List<String> legend = new ArrayList<>();
+        for (InterpolationStrategyFactory.StrategyType type : InterpolationStrategyFactory.StrategyType.values()) {
+            CurveComputationService.Result result = strategyOverlay.getResults().get(type);
+            String name = strategyNames.getOrDefault(type, type.name());
+            if (result == null) {
+                legend.add(name + ": вычисляется");
+            } else if (result.error() != null) {
+                legend.add(name + ": ошибка");
+            } else {
+                legend.add(String.format("%s: %.2f мс, вершин %d",
+                        name, result.elapsedNanos() / 1e6, result.curve().size()));
+            }
+        }
+        return legend;
     }
 
     private String getDebugInfo() {
@@ -212,10 +622,35 @@ public class InterpolationStrategyController {
         info.append("Точек: ").append(pointManager.getPointCount()).append("\n");
 
         RadioButton selected = (RadioButton) InterpolationTypeGroup.getSelectedToggle();
-        if (selected != null) {
+        if (overlayCheckBox.isSelected()) {
+            info.append("Режим сравнения всех алгоритмов\n");
+        } else if (selected != null) {
             info.append("Выбрано: ").append(selected.getText()).append("\n");
         }
 
+        if (displayedCurve != null && !displayedCurve.isEmpty()) {
+            info.append("Вершин кривой: ").append(displayedCurve.size()).append("\n");
+        }
+
+        info.append("Кадров: ").append(renderScheduler.getRenderedFrames())
+                .append(", запросов: ").append(renderScheduler.getRequestCount()).append("\n");
+
+        info.append("Вычислений: ").append(curveComputationService.getCompletedCount())
+                .append(", отброшено: ").append(curveComputationService.getDroppedCount()).append("\n");
+
+        info.append("Кэш кривых: ").append(curveCache.size()).append("/").append(curveCache.getMaxEntries())
+                .append(", попаданий: ").append(curveCache.getHitCount())
+                .append(", промахов: ").append(curveCache.getMissCount())
+                .append(", вытеснено: ").append(curveCache.getEvictionCount())
+                .append(", устарело: ").append(curveCache.getInvalidationCount()).append("\n");
+
+        info.append(String.format("Масштаб: %.0f%%", viewport.getScale() * 100)).append("\n");
+
+        info.append(frameMetrics.formatSummary());
+        if (metricsJmxError != null) {
+            info.append("Метрики недоступны через JMX: ").append(metricsJmxError).append("\n");
+        }
+
         if (isDragging) {
             info.append("Перетаскивание точки: ").append(draggedPointIndex + 1).append("\n");
         }
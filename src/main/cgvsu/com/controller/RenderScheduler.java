@@ -0,0 +1,65 @@
+package main.cgvsu.com.controller;
+
+import javafx.animation.AnimationTimer;
+
+// Собирает запросы на перерисовку и выполняет не более одного пересчета кривой
+// и одной отрисовки за импульс JavaFX. Используется только из потока JavaFX
+public class RenderScheduler extends AnimationTimer {
+    public static final int CONTROL_POINTS = 1;
+    public static final int CURVE = 1 << 1;
+    public static final int OVERLAY = 1 << 2;
+    public static final int CONTROL_POLYGON = 1 << 3;
+    public static final int ALL_LAYERS = CONTROL_POINTS | CURVE | OVERLAY | CONTROL_POLYGON;
+
+    public interface FrameHandler {
+        void recomputeCurve();
+
+        // dirtyLayers - битовая маска из CONTROL_POINTS, CURVE, OVERLAY, CONTROL_POLYGON
+        void render(int dirtyLayers);
+    }
+
+    private final FrameHandler frameHandler;
+    private int dirtyLayers;
+    private boolean curveComputationRequested;
+
+    private long renderedFrames;
+    private long requestCount;
+
+    public RenderScheduler(FrameHandler frameHandler) {
+        this.frameHandler = frameHandler;
+    }
+
+    public void invalidate(int layers) {
+        dirtyLayers |= layers;
+        requestCount++;
+    }
+
+    // Точки изменились - кривую нужно вычислить заново
+    public void invalidateCurveGeometry() {
+        curveComputationRequested = true;
+        requestCount++;
+    }
+
+    @Override
+    public void handle(long now) {
+        if (curveComputationRequested) {
+            curveComputationRequested = false;
+            frameHandler.recomputeCurve();
+        }
+
+        if (dirtyLayers != 0) {
+            int layers = dirtyLayers;
+            dirtyLayers = 0;
+            renderedFrames++;
+            frameHandler.render(layers);
+        }
+    }
+
+    public long getRenderedFrames() {
+        return renderedFrames;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+}
@@ -0,0 +1,96 @@
+package main.cgvsu.com.controller;
+
+import javafx.geometry.Point2D;
+import main.cgvsu.com.model.InterpolationStrategyFactory.StrategyType;
+import main.cgvsu.com.model.InterpolationStrategyImpl;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Режим сравнения: кривые всех стратегий для одного набора точек вычисляются одновременно.
+// У каждой стратегии свой экземпляр и свой CurveComputationService с одним рабочим потоком,
+// поэтому стратегии с внутренним состоянием по-прежнему не нужно синхронизировать.
+// Стратегии и потоки создаются при первом вычислении, а не при запуске приложения.
+// Используется из потока JavaFX
+public class StrategyOverlay {
+
+    private final Function<StrategyType, InterpolationStrategyImpl<Point2D>> strategyFactory;
+    private final Runnable resultListener;
+    private final EnumMap<StrategyType, InterpolationStrategyImpl<Point2D>> strategies = new EnumMap<>(StrategyType.class);
+    private final EnumMap<StrategyType, CurveComputationService> services = new EnumMap<>(StrategyType.class);
+    // Последние результаты, принадлежат потоку JavaFX
+    private final EnumMap<StrategyType, CurveComputationService.Result> results = new EnumMap<>(StrategyType.class);
+
+    public StrategyOverlay(Function<StrategyType, InterpolationStrategyImpl<Point2D>> strategyFactory,
+                           Runnable resultListener) {
+        this.strategyFactory = strategyFactory;
+        this.resultListener = resultListener;
+    }
+
+    // Новые экземпляры создадутся при следующем вычислении; старые могут еще работать
+    // в рабочих потоках, но новые задачи той же стратегии выполнятся после них в том же потоке
+    public void recreateStrategies() {
+        strategies.clear();
+    }
+
+    // Одна задача на стратегию; tolerance > 0 включает адаптивную дискретизацию
+    public void submit(List<Point2D> points, int segments, double tolerance) {
+        for (StrategyType type : StrategyType.values()) {
+            InterpolationStrategyImpl<Point2D> strategy = strategies.computeIfAbsent(type, strategyFactory);
+            service(type).submit(buffer -> {
+                if (tolerance > 0) {
+                    strategy.calculateAdaptive(points, tolerance, buffer);
+                } else {
+                    strategy.calculate(points, segments, buffer);
+                }
+            });
+        }
+    }
+
+    private CurveComputationService service(StrategyType type) {
+        CurveComputationService service = services.get(type);
+        if (service == null) {
+            service = new CurveComputationService(result -> {
+                // Результат, пришедший после shutdown, уже не нужен
+                CurveComputationService owner = services.get(type);
+                if (owner == null) {
+                    return;
+                }
+                CurveComputationService.Result previous = results.put(type, result);
+                if (previous != null) {
+                    owner.recycle(previous.curve());
+                }
+                resultListener.run();
+            });
+            services.put(type, service);
+        }
+        return service;
+    }
+
+    // Отменяет отправленные задачи и освобождает показанные кривые
+    public void clear() {
+        for (Map.Entry<StrategyType, CurveComputationService> entry : services.entrySet()) {
+            entry.getValue().cancelAll();
+            CurveComputationService.Result result = results.remove(entry.getKey());
+            if (result != null) {
+                entry.getValue().recycle(result.curve());
+            }
+        }
+    }
+
+    // Результаты в порядке StrategyType; стратегии, еще не вернувшие кривую, отсутствуют
+    public Map<StrategyType, CurveComputationService.Result> getResults() {
+        return results;
+    }
+
+    // Останавливает рабочие потоки; вызывается при закрытии окна
+    public void shutdown() {
+        clear();
+        for (CurveComputationService service : services.values()) {
+            service.shutdown();
+        }
+        services.clear();
+    }
+}
@@ -0,0 +1,108 @@
+package main.cgvsu.com.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Время этапов кадра: снимок точек, вычисление кривой, каждый вызов отрисовки и кадр целиком.
+// Гистограммы видны в отладочной панели и через JMX как
+// main.cgvsu.com:type=FrameMetrics,stage=<Stage>
+public class FrameMetrics {
+    public static final String JMX_DOMAIN = "main.cgvsu.com";
+
+    public enum Stage {
+        FRAME("Кадр"),
+        SNAPSHOT("Снимок точек"),
+        CURVE_COMPUTATION("Вычисление кривой"),
+        DRAW_CLEAR("Очистка"),
+        DRAW_CONTROL_POINTS("Точки"),
+        DRAW_CONTROL_POLYGON("Полигон"),
+        DRAW_CURVE("Кривая"),
+        DRAW_DEBUG_INFO("Панель");
+
+        private final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final EnumMap<Stage, LatencyHistogram> histograms = new EnumMap<>(Stage.class);
+
+    public FrameMetrics() {
+        for (Stage stage : Stage.values()) {
+            histograms.put(stage, new LatencyHistogram());
+        }
+    }
+
+    public void record(Stage stage, long nanos) {
+        histograms.get(stage).record(nanos);
+    }
+
+    // Записывает время с момента startNanos (значение System.nanoTime())
+    public void recordSince(Stage stage, long startNanos) {
+        record(stage, System.nanoTime() - startNanos);
+    }
+
+    public LatencyHistogram getHistogram(Stage stage) {
+        return histograms.get(stage);
+    }
+
+    public void reset() {
+        for (LatencyHistogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+    }
+
+    // Строка на этап с записанными значениями: p50, p99 и максимум в миллисекундах
+    public String formatSummary() {
+        StringBuilder summary = new StringBuilder();
+        for (Map.Entry<Stage, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+            summary.append(String.format(Locale.ROOT, "%s: p50 %.3f, p99 %.3f, max %.3f мс (%d)\n",
+                    entry.getKey().getLabel(),
+                    histogram.getPercentile(50) / 1e6,
+                    histogram.getPercentile(99) / 1e6,
+                    histogram.getMax() / 1e6,
+                    histogram.getCount()));
+        }
+        return summary.toString();
+    }
+
+    // Повторная регистрация (например, второе окно) заменяет прежние гистограммы
+    public void registerMBeans() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (Map.Entry<Stage, LatencyHistogram> entry : histograms.entrySet()) {
+            ObjectName name = objectName(entry.getKey());
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(entry.getValue(), name);
+        }
+    }
+
+    public void unregisterMBeans() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (Stage stage : Stage.values()) {
+            ObjectName name = objectName(stage);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        }
+    }
+
+    static ObjectName objectName(Stage stage) throws JMException {
+        return new ObjectName(JMX_DOMAIN + ":type=FrameMetrics,stage=" + stage.name());
+    }
+}
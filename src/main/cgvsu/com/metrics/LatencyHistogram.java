@@ -0,0 +1,110 @@
+package main.cgvsu.com.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Гистограмма задержек в наносекундах в духе HdrHistogram: значения до 2^SUB_BUCKET_BITS
+// хранятся точно, дальше каждый интервал [2^k, 2^(k+1)) делится на SUB_BUCKET_HALF
+// равных корзин, поэтому относительная погрешность процентилей не больше 1/16.
+// Память фиксирована, запись без блокировок из любого потока
+public class LatencyHistogram implements LatencyHistogramMXBean {
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_HALF;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    // Отрицательные значения (например, при переводе часов) считаются нулем
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.incrementAndGet();
+        maxValue.accumulateAndGet(value, Math::max);
+    }
+
+    @Override
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    // Верхняя граница корзины, в которую попал процентиль, но не больше максимума.
+    // При одновременной записи результат приблизителен, как и у HdrHistogram без копирования
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in [0, 100]");
+        }
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    @Override
+    public double getP50Micros() {
+        return getPercentile(50) / 1e3;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return getPercentile(99) / 1e3;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return getMax() / 1e3;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        maxValue.set(0);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        return shift * SUB_BUCKET_HALF + (int) (value >>> shift);
+    }
+
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF - 1;
+        return (long) (index - shift * SUB_BUCKET_HALF) << shift;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF - 1;
+        long sub = index - shift * SUB_BUCKET_HALF;
+        // Последняя корзина заканчивается на Long.MAX_VALUE
+        return sub + 1 == SUB_BUCKET_COUNT && shift == Long.SIZE - SUB_BUCKET_BITS - 1
+                ? Long.MAX_VALUE
+                : ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,14 @@
+package main.cgvsu.com.metrics;
+
+// Атрибуты одной гистограммы в JMX (jconsole, VisualVM); время в микросекундах
+public interface LatencyHistogramMXBean {
+    long getCount();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    double getMaxMicros();
+
+    void reset();
+}
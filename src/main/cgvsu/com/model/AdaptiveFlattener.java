@@ -0,0 +1,141 @@
+package main.cgvsu.com.model;
+
+// Адаптивная дискретизация: отрезок делится пополам, пока кривая
+// отклоняется от хорды больше допуска (в единицах координат, т.е. пикселях)
+public final class AdaptiveFlattener {
+    // Минимальная глубина не дает пропустить изгиб, симметричный относительно середины хорды
+    static final int MIN_DEPTH = 2;
+    static final int MAX_DEPTH = 16;
+    // Общий предел вершин для flatten: сильно колеблющаяся кривая (полином Лагранжа
+    // высокой степени) иначе дает до 2^MAX_DEPTH вершин на каждый интервал
+    static final int MAX_VERTICES = 1 << MAX_DEPTH;
+
+    private AdaptiveFlattener() {
+    }
+
+    // Кривая Безье: рекурсивное деление де Кастельжо до плоского контрольного многоугольника.
+    // Кривая лежит в выпуклой оболочке, поэтому допуск соблюдается гарантированно.
+    // Первая точка добавляется, только если буфер пуст
+    public static void flattenBezier(double[] x, double[] y, double tolerance, CurveBuffer buffer) {
+        checkTolerance(tolerance);
+        if (buffer.isEmpty()) {
+            buffer.add(x[0], y[0]);
+        }
+        subdivideBezier(x, y, tolerance, 0, buffer);
+    }
+
+    // Кривая с изломами или перегибами в точках breakpoints (узлы сплайна, узлы Лагранжа):
+    // каждый интервал между соседними значениями дискретизируется отдельно.
+    // Глубина деления ограничена так, чтобы все интервалы вместе дали не больше MAX_VERTICES
+    // вершин; при большем числе интервалов каждый делится хотя бы до MIN_DEPTH
+    public static void flatten(FittedCurve<?> curve, double[] breakpoints, double tolerance, CurveBuffer buffer) {
+        checkTolerance(tolerance);
+        CurveBuffer probe = new CurveBuffer(1);
+        int maxDepth = depthLimit(breakpoints.length - 1);
+
+        buffer.clear();
+        curve.evaluate(breakpoints[0], buffer);
+
+        for (int i = 0; i < breakpoints.length - 1; i++) {
+            CurveCancellation.checkpoint();
+            double t0 = breakpoints[i];
+            double t1 = breakpoints[i + 1];
+            if (t1 <= t0) {
+                continue;
+            }
+            int last = buffer.size() - 1;
+            double x0 = buffer.getX(last);
+            double y0 = buffer.getY(last);
+
+            probe.clear();
+            curve.evaluate(t1, probe);
+            subdivide(curve, t0, x0, y0, t1, probe.getX(0), probe.getY(0), tolerance, 0, maxDepth, probe, buffer);
+        }
+    }
+
+    private static void subdivide(FittedCurve<?> curve, double t0, double x0, double y0,
+                                  double t1, double x1, double y1,
+                                  double tolerance, int depth, int maxDepth, CurveBuffer probe, CurveBuffer buffer) {
+        double tm = (t0 + t1) / 2;
+        probe.clear();
+        curve.evaluate(tm, probe);
+        double xm = probe.getX(0);
+        double ym = probe.getY(0);
+
+        boolean flat = distanceToSegment(xm, ym, x0, y0, x1, y1) <= tolerance;
+        if (depth >= maxDepth || (depth >= MIN_DEPTH && flat)) {
+            buffer.add(x1, y1);
+            return;
+        }
+
+        subdivide(curve, t0, x0, y0, tm, xm, ym, tolerance, depth + 1, maxDepth, probe, buffer);
+        subdivide(curve, tm, xm, ym, t1, x1, y1, tolerance, depth + 1, maxDepth, probe, buffer);
+    }
+
+    // Интервал глубины d дает не больше 2^d вершин
+    static int depthLimit(int intervals) {
+        int perInterval = MAX_VERTICES / Math.max(1, intervals);
+        int depth = 31 - Integer.numberOfLeadingZeros(Math.max(1, perInterval));
+        return Math.max(MIN_DEPTH, Math.min(MAX_DEPTH, depth));
+    }
+
+    private static void subdivideBezier(double[] x, double[] y, double tolerance, int depth, CurveBuffer buffer) {
+        int n = x.length - 1;
+        if (depth >= MAX_DEPTH || isFlat(x, y, tolerance)) {
+            buffer.add(x[n], y[n]);
+            return;
+        }
+
+        // Деление в t = 0.5: левая половина - первые точки каждого уровня де Кастельжо,
+        // правая - последние
+        double[] leftX = new double[n + 1];
+        double[] leftY = new double[n + 1];
+        double[] rightX = new double[n + 1];
+        double[] rightY = new double[n + 1];
+        double[] tempX = x.clone();
+        double[] tempY = y.clone();
+
+        for (int k = 0; k <= n; k++) {
+            leftX[k] = tempX[0];
+            leftY[k] = tempY[0];
+            rightX[n - k] = tempX[n - k];
+            rightY[n - k] = tempY[n - k];
+            for (int i = 0; i < n - k; i++) {
+                tempX[i] = (tempX[i] + tempX[i + 1]) / 2;
+                tempY[i] = (tempY[i] + tempY[i + 1]) / 2;
+            }
+        }
+
+        subdivideBezier(leftX, leftY, tolerance, depth + 1, buffer);
+        subdivideBezier(rightX, rightY, tolerance, depth + 1, buffer);
+    }
+
+    private static boolean isFlat(double[] x, double[] y, double tolerance) {
+        int n = x.length - 1;
+        for (int i = 1; i < n; i++) {
+            if (distanceToSegment(x[i], y[i], x[0], y[0], x[n], y[n]) > tolerance) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static double distanceToSegment(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared == 0) {
+            return Math.hypot(px - ax, py - ay);
+        }
+
+        double t = ((px - ax) * dx + (py - ay) * dy) / lengthSquared;
+        t = Math.max(0, Math.min(1, t));
+        return Math.hypot(px - (ax + t * dx), py - (ay + t * dy));
+    }
+
+    private static void checkTolerance(double tolerance) {
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("Tolerance must be positive");
+        }
+    }
+}
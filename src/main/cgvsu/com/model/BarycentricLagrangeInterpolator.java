@@ -0,0 +1,221 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Полином Лагранжа в барицентрической форме.
+// Полный пересчет весов - O(n^2), вставка/удаление узла - O(n), вычисление точки - O(n).
+// Не потокобезопасен; для передачи в другие потоки используйте toCurve()
+public class BarycentricLagrangeInterpolator {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] x = new double[DEFAULT_CAPACITY];
+    private double[] y = new double[DEFAULT_CAPACITY];
+    private double[] weights = new double[DEFAULT_CAPACITY];
+    private int size;
+
+    // Все разности делятся на этот масштаб, чтобы произведения не переполнялись.
+    // Общий множитель весов сокращается во второй барицентрической формуле
+    private double lengthScale = 1.0;
+    // Общий множитель хранимых весов после нормализации: mantissa * 2^exponent.
+    // Хранится раздельно, т.к. при постепенном добавлении узлов он выходит за пределы double
+    private double weightScaleMantissa = 1.0;
+    private int weightScaleExponent = 0;
+
+    public static BarycentricLagrangeInterpolator fromPoints(List<Point2D> points) {
+        BarycentricLagrangeInterpolator interpolator = new BarycentricLagrangeInterpolator();
+        interpolator.setNodes(points);
+        return interpolator;
+    }
+
+    public void setNodes(List<Point2D> points) {
+        int n = points.size();
+        ensureCapacity(n);
+
+        double minX = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            x[i] = points.get(i).getX();
+            y[i] = points.get(i).getY();
+            minX = Math.min(minX, x[i]);
+            maxX = Math.max(maxX, x[i]);
+        }
+        size = n;
+        lengthScale = maxX > minX ? (maxX - minX) / 4.0 : 1.0;
+        weightScaleMantissa = 1.0;
+        weightScaleExponent = 0;
+
+        for (int j = 0; j < n; j++) {
+            double weight = 1.0;
+            for (int k = 0; k < n; k++) {
+                if (k != j) {
+                    weight /= scaledDifference(x[j], x[k]);
+                }
+            }
+            weights[j] = weight;
+        }
+        normalizeWeights();
+    }
+
+    public void insertNode(int index, double nodeX, double nodeY) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+
+        double mantissa = weightScaleMantissa;
+        int exponent = weightScaleExponent;
+        for (int j = 0; j < size; j++) {
+            mantissa /= scaledDifference(nodeX, x[j]);
+            int shift = Math.getExponent(mantissa);
+            mantissa = Math.scalb(mantissa, -shift);
+            exponent += shift;
+        }
+        double newWeight = Math.scalb(mantissa, exponent);
+        // Обновление существующих весов только после проверки уникальности X
+        for (int j = 0; j < size; j++) {
+            weights[j] /= (x[j] - nodeX) / lengthScale;
+        }
+
+        ensureCapacity(size + 1);
+        System.arraycopy(x, index, x, index + 1, size - index);
+        System.arraycopy(y, index, y, index + 1, size - index);
+        System.arraycopy(weights, index, weights, index + 1, size - index);
+        x[index] = nodeX;
+        y[index] = nodeY;
+        weights[index] = newWeight;
+        size++;
+
+        normalizeWeights();
+    }
+
+    public void addNode(double nodeX, double nodeY) {
+        insertNode(size, nodeX, nodeY);
+    }
+
+    public void removeNode(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+
+        double removedX = x[index];
+        size--;
+        System.arraycopy(x, index + 1, x, index, size - index);
+        System.arraycopy(y, index + 1, y, index, size - index);
+        System.arraycopy(weights, index + 1, weights, index, size - index);
+
+        for (int j = 0; j < size; j++) {
+            weights[j] *= (x[j] - removedX) / lengthScale;
+        }
+
+        normalizeWeights();
+    }
+
+    public void updateNode(int index, double nodeX, double nodeY) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+
+        if (x[index] == nodeX) {
+            // Веса зависят только от X
+            y[index] = nodeY;
+            return;
+        }
+
+        removeNode(index);
+        insertNode(index, nodeX, nodeY);
+    }
+
+    public void clear() {
+        size = 0;
+        lengthScale = 1.0;
+        weightScaleMantissa = 1.0;
+        weightScaleExponent = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double getNodeX(int index) {
+        return x[index];
+    }
+
+    public double getNodeY(int index) {
+        return y[index];
+    }
+
+    public double evaluate(double t) {
+        // Вторая (истинная) барицентрическая формула
+        double numerator = 0;
+        double denominator = 0;
+
+        for (int j = 0; j < size; j++) {
+            double diff = t - x[j];
+            if (diff == 0) {
+                return y[j];
+            }
+            double term = weights[j] / diff;
+            numerator += term * y[j];
+            denominator += term;
+        }
+
+        return numerator / denominator;
+    }
+
+    public double getMinX() {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, x[i]);
+        }
+        return min;
+    }
+
+    public double getMaxX() {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, x[i]);
+        }
+        return max;
+    }
+
+    public LagrangeCurve toCurve() {
+        return new LagrangeCurve(Arrays.copyOf(x, size), Arrays.copyOf(y, size), Arrays.copyOf(weights, size));
+    }
+
+    private double scaledDifference(double a, double b) {
+        double diff = a - b;
+        if (diff == 0) {
+            throw new IllegalArgumentException("X coordinates must be unique for Lagrange polynomial");
+        }
+        return diff / lengthScale;
+    }
+
+    private void normalizeWeights() {
+        double max = 0;
+        for (int j = 0; j < size; j++) {
+            max = Math.max(max, Math.abs(weights[j]));
+        }
+        if (max == 0 || Double.isInfinite(max) || Double.isNaN(max)) {
+            return;
+        }
+        for (int j = 0; j < size; j++) {
+            weights[j] /= max;
+        }
+        weightScaleMantissa /= max;
+        int shift = Math.getExponent(weightScaleMantissa);
+        weightScaleMantissa = Math.scalb(weightScaleMantissa, -shift);
+        weightScaleExponent += shift;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= x.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, x.length * 2);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        weights = Arrays.copyOf(weights, newCapacity);
+    }
+}
@@ -0,0 +1,89 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+
+import java.util.List;
+
+public final class BezierCurve implements FittedCurve<Point2D> {
+    // Выше этой степени схема Горнера теряет точность, используем де Кастельжо
+    static final int HORNER_MAX_DEGREE = BezierEvaluator.HORNER_MAX_DEGREE;
+
+    private final double[] x;
+    private final double[] y;
+    private final double[] binomials;
+
+    public BezierCurve(List<Point2D> controlPoints) {
+        if (controlPoints == null || controlPoints.size() < 2) {
+            throw new IllegalArgumentException("Need at least 2 control points");
+        }
+
+        int count = controlPoints.size();
+        this.x = new double[count];
+        this.y = new double[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = controlPoints.get(i).getX();
+            y[i] = controlPoints.get(i).getY();
+        }
+
+        this.binomials = BezierEvaluator.binomialRow(count - 1);
+    }
+
+    @Override
+    public Point2D evaluate(double t) {
+        double[] work = newWork();
+        return new Point2D(coordinate(x, t, work), coordinate(y, t, work));
+    }
+
+    @Override
+    public void evaluate(double t, CurveSink sink) {
+        evaluate(t, sink, newWork());
+    }
+
+    // Для циклов дискретизации: рабочий массив де Кастельжо передает вызывающий
+    void evaluate(double t, CurveSink sink, double[] work) {
+        sink.accept(coordinate(x, t, work), coordinate(y, t, work));
+    }
+
+    // Один рабочий массив на весь проход вместо массива на точку
+    @Override
+    public void forEachSample(int segments, CurveSink sink) {
+        double[] work = newWork();
+        for (int i = 0; i <= segments; i++) {
+            if (i % CurveCancellation.CHECK_INTERVAL == 0) {
+                CurveCancellation.checkpoint();
+            }
+            evaluate(getSampleParameter(i, segments), sink, work);
+        }
+    }
+
+    @Override
+    public double getStartParameter() {
+        return 0;
+    }
+
+    @Override
+    public double getEndParameter() {
+        return 1;
+    }
+
+    public int getDegree() {
+        return x.length - 1;
+    }
+
+    public Point2D getControlPoint(int index) {
+        return new Point2D(x[index], y[index]);
+    }
+
+    // Схеме Горнера рабочий массив не нужен
+    double[] newWork() {
+        return getDegree() <= HORNER_MAX_DEGREE ? null : new double[x.length];
+    }
+
+    private double coordinate(double[] values, double t, double[] work) {
+        int degree = getDegree();
+        if (degree <= HORNER_MAX_DEGREE) {
+            return BezierEvaluator.horner(values, binomials, degree, t);
+        }
+        return BezierEvaluator.casteljau(values, degree, t, work);
+    }
+}
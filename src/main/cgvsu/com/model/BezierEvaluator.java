@@ -0,0 +1,204 @@
+package main.cgvsu.com.model;
+
+// Схемы вычисления точек кривой Безье степени degree по массивам координат
+// (используются первые degree + 1 элементов). Точка с номером index пишется
+// в out[2 * index], out[2 * index + 1]; входные массивы не изменяются,
+// рабочие массивы передает вызывающий, поэтому методы можно вызывать из разных потоков
+final class BezierEvaluator {
+    // Выше этих степеней схемы теряют точность или переполняются,
+    // и стратегия переходит на схему де Кастельжо
+    static final int HORNER_MAX_DEGREE = 30;
+    static final int FORWARD_DIFFERENCE_MAX_DEGREE = 10;
+    // C(n, n/2) остается конечным примерно до n = 1020
+    static final int BERNSTEIN_MAX_DEGREE = 1000;
+
+    // Через столько шагов разности пересчитываются заново, чтобы ошибка не накапливалась
+    static final int FORWARD_DIFFERENCE_RESTART = 256;
+
+    // SURJECTIONS[m][k] = k! * S(m, k) - число сюръекций из m элементов в k
+    private static final double[][] SURJECTIONS = surjections(FORWARD_DIFFERENCE_MAX_DEGREE);
+
+    private BezierEvaluator() {
+    }
+
+    static double[] binomialRow(int degree) {
+        double[] row = new double[degree + 1];
+        for (int i = 0; i <= degree; i++) {
+            row[i] = BezierStrategy.binomialCoefficient(degree, i);
+        }
+        return row;
+    }
+
+    // O(n^2), устойчива при любой степени
+    static void casteljau(double[] x, double[] y, int degree, double t,
+                          double[] workX, double[] workY, double[] out, int index) {
+        out[index * 2] = casteljau(x, degree, t, workX);
+        out[index * 2 + 1] = casteljau(y, degree, t, workY);
+    }
+
+    // Одна координата точки; work не короче degree + 1
+    static double casteljau(double[] values, int degree, double t, double[] work) {
+        System.arraycopy(values, 0, work, 0, degree + 1);
+
+        for (int k = 1; k <= degree; k++) {
+            for (int i = 0; i <= degree - k; i++) {
+                work[i] = (1 - t) * work[i] + t * work[i + 1];
+            }
+        }
+
+        return work[0];
+    }
+
+    // O(n): сумма C(n,i) * t^i * (1-t)^(n-i) * P_i без Math.pow, степени (1-t) в sPowers
+    static void bernstein(double[] x, double[] y, double[] binomials, int degree, double t,
+                          double[] sPowers, double[] out, int index) {
+        double s = 1 - t;
+        sPowers[0] = 1;
+        for (int k = 1; k <= degree; k++) {
+            sPowers[k] = sPowers[k - 1] * s;
+        }
+
+        double sumX = 0;
+        double sumY = 0;
+        double tPower = 1;
+        for (int i = 0; i <= degree; i++) {
+            double basis = binomials[i] * tPower * sPowers[degree - i];
+            sumX += basis * x[i];
+            sumY += basis * y[i];
+            tPower *= t;
+        }
+
+        out[index * 2] = sumX;
+        out[index * 2 + 1] = sumY;
+    }
+
+    // O(n): B(t) = s^n * sum(C(n,i) * u^i * P_i), где s = 1 - t, u = t / s.
+    // Для t > 0.5 многочлен разворачивается, чтобы u оставалось не больше 1
+    static void horner(double[] x, double[] y, double[] binomials, int degree, double t, double[] out, int index) {
+        out[index * 2] = horner(x, binomials, degree, t);
+        out[index * 2 + 1] = horner(y, binomials, degree, t);
+    }
+
+    // Одна координата точки, без рабочих массивов
+    static double horner(double[] values, double[] binomials, int degree, double t) {
+        double s = 1 - t;
+        double sum;
+
+        if (t <= 0.5) {
+            double u = t / s;
+            sum = values[degree] * binomials[degree];
+            for (int i = degree - 1; i >= 0; i--) {
+                sum = sum * u + binomials[i] * values[i];
+            }
+            return sum * power(s, degree);
+        }
+
+        double u = s / t;
+        sum = values[0] * binomials[0];
+        for (int i = 1; i <= degree; i++) {
+            sum = sum * u + binomials[i] * values[i];
+        }
+        return sum * power(t, degree);
+    }
+
+    // Целая степень возведением в квадрат; Math.pow здесь в несколько раз дороже всей схемы
+    static double power(double base, int exponent) {
+        double result = 1;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result *= base;
+            }
+            base *= base;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    // Коэффициенты степенного базиса: a_k = C(n,k) * sum((-1)^(k-i) * C(k,i) * P_i)
+    static void powerBasis(double[] values, double[] binomials, int degree, double[] coefficients) {
+        for (int k = 0; k <= degree; k++) {
+            double sum = 0;
+            for (int i = 0; i <= k; i++) {
+                double term = BezierStrategy.binomialCoefficient(k, i) * values[i];
+                sum += (k - i) % 2 == 0 ? term : -term;
+            }
+            coefficients[k] = binomials[k] * sum;
+        }
+    }
+
+    static double evaluatePowerBasis(double[] coefficients, int degree, double t) {
+        double result = coefficients[degree];
+        for (int k = degree - 1; k >= 0; k--) {
+            result = result * t + coefficients[k];
+        }
+        return result;
+    }
+
+    // Точки с индексами [from, to) равномерной сетки t = i / segments прямыми разностями:
+    // O(n) сложений на точку, для кубической кривой - три. Разности строятся заново
+    // в начале каждого блока из FORWARD_DIFFERENCE_RESTART точек (границы блоков не зависят
+    // от from, поэтому результат не зависит от разбиения диапазона между потоками)
+    static void forwardDifferences(double[] coefficientsX, double[] coefficientsY, int degree, int segments,
+                                   int from, int to, double[] differencesX, double[] differencesY, double[] out) {
+        int blockStart = from - from % FORWARD_DIFFERENCE_RESTART;
+
+        for (int block = blockStart; block < to; block += FORWARD_DIFFERENCE_RESTART) {
+            initDifferences(coefficientsX, degree, segments, block, differencesX);
+            initDifferences(coefficientsY, degree, segments, block, differencesY);
+
+            int blockEnd = Math.min(block + FORWARD_DIFFERENCE_RESTART, to);
+            for (int i = block; i < blockEnd; i++) {
+                if (i >= from) {
+                    out[i * 2] = differencesX[0];
+                    out[i * 2 + 1] = differencesY[0];
+                }
+                for (int k = 0; k < degree; k++) {
+                    differencesX[k] += differencesX[k + 1];
+                    differencesY[k] += differencesY[k + 1];
+                }
+            }
+        }
+    }
+
+    // differences[k] = k-я прямая разность многочлена в точке start / segments с шагом h = 1 / segments.
+    // Разности не вычитаются из соседних значений (это теряло бы точность), а считаются точно:
+    // сдвиг многочлена q(j) = p(t0 + j*h) = sum(b_m * j^m), затем разность k-го порядка в нуле
+    // равна sum(b_m * k! * S(m, k)), где S - числа Стирлинга второго рода
+    private static void initDifferences(double[] coefficients, int degree, int segments, int start,
+                                        double[] differences) {
+        double t0 = (double) start / segments;
+        double h = 1.0 / segments;
+
+        System.arraycopy(coefficients, 0, differences, 0, degree + 1);
+        for (int i = 0; i < degree; i++) {
+            for (int j = degree - 1; j >= i; j--) {
+                differences[j] += t0 * differences[j + 1];
+            }
+        }
+
+        double scale = 1;
+        for (int m = 1; m <= degree; m++) {
+            scale *= h;
+            differences[m] *= scale;
+        }
+
+        for (int k = 0; k <= degree; k++) {
+            double sum = 0;
+            for (int m = k; m <= degree; m++) {
+                sum += differences[m] * SURJECTIONS[m][k];
+            }
+            differences[k] = sum;
+        }
+    }
+
+    private static double[][] surjections(int maxDegree) {
+        double[][] table = new double[maxDegree + 1][maxDegree + 1];
+        table[0][0] = 1;
+        for (int m = 1; m <= maxDegree; m++) {
+            for (int k = 1; k <= m; k++) {
+                table[m][k] = k * (table[m - 1][k] + table[m - 1][k - 1]);
+            }
+        }
+        return table;
+    }
+}
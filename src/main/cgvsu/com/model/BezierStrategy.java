@@ -7,12 +7,65 @@ import java.util.List;
 
 public class BezierStrategy implements InterpolationStrategyImpl<Point2D> {
 
+    // Схема вычисления точек. Если степень кривой слишком велика для выбранной схемы,
+    // используется де Кастельжо (см. пределы в BezierEvaluator)
+    public enum EvaluationMode {
+        // O(n^2) на точку, устойчива при любой степени
+        CASTELJAU,
+        // O(n) на точку, базис Бернштейна с заранее вычисленными биномиальными коэффициентами
+        BERNSTEIN,
+        // O(n) на точку, схема Горнера по t / (1 - t)
+        HORNER,
+        // O(n) сложений на точку равномерной сетки, для кубических кривых O(1)
+        FORWARD_DIFFERENCE
+    }
+
+    // Замена кривой высокой степени цепочкой кубических сегментов (см. CubicChain):
+    // стоимость становится линейной по числу контрольных точек, но кривая
+    // приближает контрольный многоугольник, а не совпадает с исходной кривой Безье
+    public enum DegreeSplitting {
+        NONE,
+        C1,
+        C2
+    }
+
+    // Рабочие массивы для вычислений в буфер, переиспользуются между вызовами
+    private double[] scratchX = new double[0];
+    private double[] scratchY = new double[0];
+    private double[] controlX = new double[0];
+    private double[] controlY = new double[0];
+    private double[] coefficientsX = new double[0];
+    private double[] coefficientsY = new double[0];
+    private final double[] point = new double[2];
+
+    // Биномиальные коэффициенты считаются один раз для степени
+    private double[] binomials = new double[0];
+
+    private EvaluationMode evaluationMode = EvaluationMode.CASTELJAU;
+
+    // Разбиение применяется только к кривым степени выше порога
+    private DegreeSplitting degreeSplitting = DegreeSplitting.NONE;
+    private int splittingDegree = BezierEvaluator.HORNER_MAX_DEGREE;
+    // Цепочка строится один раз на набор точек: calculatePoint вызывается для каждого t
+    private final FitCache<CubicChain> chainCache = new FitCache<>();
+
+    // Параллельная дискретизация включается явно и только для числа точек больше порога
+    private boolean parallel;
+    private int parallelThreshold = ParallelSampling.DEFAULT_THRESHOLD;
+
     @Override
     public List<Point2D> calculate(List<Point2D> controlPoints, int segments) {
         if (controlPoints == null || controlPoints.size() < 2) {
             throw new IllegalArgumentException("Need at least 2 control points");
         }
 
+        // Прямые разности работают только на всей сетке сразу
+        if (evaluationMode == EvaluationMode.FORWARD_DIFFERENCE || isSplit(controlPoints.size() - 1)) {
+            CurveBuffer buffer = new CurveBuffer(segments + 1);
+            calculate(controlPoints, segments, buffer);
+            return buffer.toPointList();
+        }
+
         List<Point2D> curvePoints = new ArrayList<>();
 
         for (int i = 0; i <= segments; i++) {
@@ -24,12 +77,221 @@ public class BezierStrategy implements InterpolationStrategyImpl<Point2D> {
         return curvePoints;
     }
 
+    @Override
+    public void calculate(List<Point2D> controlPoints, int segments, CurveBuffer buffer) {
+        if (controlPoints == null || controlPoints.size() < 2) {
+            throw new IllegalArgumentException("Need at least 2 control points");
+        }
+
+        int degree = loadControlPoints(controlPoints);
+        CubicChain chain = isSplit(degree) ? toCubicChain(controlPoints) : null;
+        EvaluationMode mode = resolveMode(evaluationMode, degree);
+        if (chain == null && mode != EvaluationMode.CASTELJAU) {
+            binomialRow(degree);
+        }
+        if (chain == null && mode == EvaluationMode.FORWARD_DIFFERENCE) {
+            ensureCoefficients(degree + 1);
+            BezierEvaluator.powerBasis(controlX, binomials, degree, coefficientsX);
+            BezierEvaluator.powerBasis(controlY, binomials, degree, coefficientsY);
+        }
+
+        int count = segments + 1;
+        if (!parallel || count <= parallelThreshold) {
+            ensureScratch(degree + 1);
+            buffer.clear();
+            buffer.resize(count);
+            double[] out = buffer.getData();
+            for (int from = 0; from < count; from += CurveCancellation.CHECK_INTERVAL) {
+                CurveCancellation.checkpoint();
+                int to = Math.min(from + CurveCancellation.CHECK_INTERVAL, count);
+                sampleRange(chain, mode, degree, segments, from, to, scratchX, scratchY, out);
+            }
+            return;
+        }
+
+        // У каждой части свои рабочие массивы, общие массивы только читаются
+        ParallelSampling.sample(count, parallelThreshold, (from, to, out) ->
+                sampleRange(chain, mode, degree, segments, from, to,
+                        new double[degree + 1], new double[degree + 1], out), buffer);
+    }
+
+    // Точки с индексами [from, to) равномерной сетки; контрольные точки, биномиальные
+    // коэффициенты и коэффициенты степенного базиса уже подготовлены в полях
+    private void sampleRange(CubicChain chain, EvaluationMode mode, int degree, int segments, int from, int to,
+                             double[] workX, double[] workY, double[] out) {
+        if (chain != null) {
+            for (int i = from; i < to; i++) {
+                chain.evaluate((double) i / segments, out, i);
+            }
+            return;
+        }
+
+        switch (mode) {
+            case BERNSTEIN -> {
+                for (int i = from; i < to; i++) {
+                    BezierEvaluator.bernstein(controlX, controlY, binomials, degree,
+                            (double) i / segments, workX, out, i);
+                }
+            }
+            case HORNER -> {
+                for (int i = from; i < to; i++) {
+                    BezierEvaluator.horner(controlX, controlY, binomials, degree, (double) i / segments, out, i);
+                }
+            }
+            case FORWARD_DIFFERENCE -> BezierEvaluator.forwardDifferences(coefficientsX, coefficientsY, degree,
+                    segments, from, to, workX, workY, out);
+            default -> {
+                for (int i = from; i < to; i++) {
+                    BezierEvaluator.casteljau(controlX, controlY, degree, (double) i / segments, workX, workY, out, i);
+                }
+            }
+        }
+    }
+
+    public EvaluationMode getEvaluationMode() {
+        return evaluationMode;
+    }
+
+    public void setEvaluationMode(EvaluationMode evaluationMode) {
+        if (evaluationMode == null) {
+            throw new IllegalArgumentException("Evaluation mode must not be null");
+        }
+        this.evaluationMode = evaluationMode;
+    }
+
+    // Схема, которая фактически используется для кривой данной степени
+    static EvaluationMode resolveMode(EvaluationMode mode, int degree) {
+        int maxDegree = switch (mode) {
+            case CASTELJAU -> Integer.MAX_VALUE;
+            case BERNSTEIN -> BezierEvaluator.BERNSTEIN_MAX_DEGREE;
+            case HORNER -> BezierEvaluator.HORNER_MAX_DEGREE;
+            case FORWARD_DIFFERENCE -> BezierEvaluator.FORWARD_DIFFERENCE_MAX_DEGREE;
+        };
+        return degree <= maxDegree ? mode : EvaluationMode.CASTELJAU;
+    }
+
+    public DegreeSplitting getDegreeSplitting() {
+        return degreeSplitting;
+    }
+
+    public void setDegreeSplitting(DegreeSplitting degreeSplitting) {
+        if (degreeSplitting == null) {
+            throw new IllegalArgumentException("Degree splitting must not be null");
+        }
+        this.degreeSplitting = degreeSplitting;
+        chainCache.invalidate();
+    }
+
+    public int getSplittingDegree() {
+        return splittingDegree;
+    }
+
+    // Кривые степени не выше splittingDegree вычисляются точно
+    public void setSplittingDegree(int splittingDegree) {
+        if (splittingDegree < 1) {
+            throw new IllegalArgumentException("Splitting degree must be at least 1");
+        }
+        this.splittingDegree = splittingDegree;
+        chainCache.invalidate();
+    }
+
+    private boolean isSplit(int degree) {
+        return degreeSplitting != DegreeSplitting.NONE && degree > splittingDegree;
+    }
+
+    // Цепочка неизменяема, поэтому одна и та же возвращается, пока точки и настройки не меняются
+    private CubicChain toCubicChain(List<Point2D> points) {
+        CubicChain chain = chainCache.get(points);
+        if (chain != null) {
+            return chain;
+        }
+
+        int degree = loadControlPoints(points);
+        CubicChain.Continuity continuity = degreeSplitting == DegreeSplitting.C1
+                ? CubicChain.Continuity.C1
+                : CubicChain.Continuity.C2;
+        chain = CubicChain.fromPolygon(controlX, controlY, degree + 1, continuity);
+        chainCache.put(points, chain);
+        return chain;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        ParallelSampling.checkThreshold(parallelThreshold);
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    public void calculateAdaptive(List<Point2D> controlPoints, double tolerance, CurveBuffer buffer) {
+        if (controlPoints == null || controlPoints.size() < 2) {
+            throw new IllegalArgumentException("Need at least 2 control points");
+        }
+
+        int n = controlPoints.size();
+        if (isSplit(n - 1)) {
+            CubicChain chain = toCubicChain(controlPoints);
+            double[] segmentX = new double[4];
+            double[] segmentY = new double[4];
+            buffer.clear();
+            for (int segment = 0; segment < chain.getSegmentCount(); segment++) {
+                chain.getSegment(segment, segmentX, segmentY);
+                AdaptiveFlattener.flattenBezier(segmentX, segmentY, tolerance, buffer);
+            }
+            return;
+        }
+
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = controlPoints.get(i).getX();
+            y[i] = controlPoints.get(i).getY();
+        }
+
+        buffer.clear();
+        AdaptiveFlattener.flattenBezier(x, y, tolerance, buffer);
+    }
+
     @Override
     public Point2D calculatePoint(List<Point2D> points, double t) {
-        // return calculatePointBernstein(points, t);
+        if (isSplit(points.size() - 1)) {
+            return toCubicChain(points).evaluate(t);
+        }
+
+        // Прямые разности для отдельной точки не имеют смысла, она считается де Кастельжо
+        EvaluationMode mode = resolveMode(evaluationMode, points.size() - 1);
+        if (mode == EvaluationMode.BERNSTEIN || mode == EvaluationMode.HORNER) {
+            int degree = loadControlPoints(points);
+            double[] binomials = binomialRow(degree);
+            if (mode == EvaluationMode.BERNSTEIN) {
+                ensureScratch(degree + 1);
+                BezierEvaluator.bernstein(controlX, controlY, binomials, degree, t, scratchX, point, 0);
+            } else {
+                BezierEvaluator.horner(controlX, controlY, binomials, degree, t, point, 0);
+            }
+            return new Point2D(point[0], point[1]);
+        }
         return calculatePointCasteljau(points, t);
     }
 
+    @Override
+    public FittedCurve<Point2D> fit(List<Point2D> controlPoints) {
+        if (controlPoints != null && isSplit(controlPoints.size() - 1)) {
+            return toCubicChain(controlPoints);
+        }
+        return new BezierCurve(controlPoints);
+    }
+
     protected Point2D calculatePointCasteljau(List<Point2D> points, double t) {
         int n = points.size() - 1;
         if (n == 0) {
@@ -52,6 +314,48 @@ public class BezierStrategy implements InterpolationStrategyImpl<Point2D> {
         return temp[0];
     }
 
+    protected void calculatePointCasteljau(List<Point2D> points, double t, CurveBuffer buffer) {
+        int degree = loadControlPoints(points);
+        ensureScratch(degree + 1);
+        BezierEvaluator.casteljau(controlX, controlY, degree, t, scratchX, scratchY, point, 0);
+        buffer.add(point[0], point[1]);
+    }
+
+    // Копирует координаты в controlX, controlY и возвращает степень кривой
+    private int loadControlPoints(List<Point2D> points) {
+        int n = points.size();
+        if (controlX.length < n) {
+            controlX = new double[n];
+            controlY = new double[n];
+        }
+        for (int i = 0; i < n; i++) {
+            controlX[i] = points.get(i).getX();
+            controlY[i] = points.get(i).getY();
+        }
+        return n - 1;
+    }
+
+    private void ensureScratch(int length) {
+        if (scratchX.length < length) {
+            scratchX = new double[length];
+            scratchY = new double[length];
+        }
+    }
+
+    private void ensureCoefficients(int length) {
+        if (coefficientsX.length < length) {
+            coefficientsX = new double[length];
+            coefficientsY = new double[length];
+        }
+    }
+
+    private double[] binomialRow(int degree) {
+        if (binomials.length != degree + 1) {
+            binomials = BezierEvaluator.binomialRow(degree);
+        }
+        return binomials;
+    }
+
     protected static Point2D calculatePointBernstein(List<Point2D> points, double t) {
         int n = points.size() - 1;
         double x = 0;
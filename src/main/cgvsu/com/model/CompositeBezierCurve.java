@@ -0,0 +1,75 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+
+import java.util.List;
+
+// Параметр t в [0, 1] равномерно делится между сегментами составной кривой
+public final class CompositeBezierCurve implements FittedCurve<Point2D> {
+    private final double[] x;
+    private final double[] y;
+    private final int segmentCount;
+
+    public CompositeBezierCurve(List<Point2D> controlPoints) {
+        if (controlPoints == null || controlPoints.size() < 2) {
+            throw new IllegalArgumentException("Need at least 2 control points");
+        }
+
+        int n = controlPoints.size();
+        this.x = new double[n];
+        this.y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = controlPoints.get(i).getX();
+            y[i] = controlPoints.get(i).getY();
+        }
+        this.segmentCount = CompositeBezierStrategy.getSegmentCount(n);
+    }
+
+    @Override
+    public Point2D evaluate(double t) {
+        int segment = findSegment(t);
+        double local = toLocalParameter(t, segment);
+        return new Point2D(evaluateSegment(x, segment, local), evaluateSegment(y, segment, local));
+    }
+
+    @Override
+    public void evaluate(double t, CurveSink sink) {
+        int segment = findSegment(t);
+        double local = toLocalParameter(t, segment);
+        sink.accept(evaluateSegment(x, segment, local), evaluateSegment(y, segment, local));
+    }
+
+    @Override
+    public double getStartParameter() {
+        return 0;
+    }
+
+    @Override
+    public double getEndParameter() {
+        return 1;
+    }
+
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    private int findSegment(double t) {
+        int segment = (int) Math.floor(t * segmentCount);
+        return Math.max(0, Math.min(segmentCount - 1, segment));
+    }
+
+    private double toLocalParameter(double t, int segment) {
+        return t * segmentCount - segment;
+    }
+
+    private double evaluateSegment(double[] values, int segment, double t) {
+        int start = CompositeBezierStrategy.getSegmentStart(segment);
+        int end = CompositeBezierStrategy.getSegmentEnd(segment, values.length);
+        return CompositeBezierStrategy.evaluateCubic(
+                CompositeBezierStrategy.elevatedControl(values, start, end, 0),
+                CompositeBezierStrategy.elevatedControl(values, start, end, 1),
+                CompositeBezierStrategy.elevatedControl(values, start, end, 2),
+                CompositeBezierStrategy.elevatedControl(values, start, end, 3),
+                t);
+    }
+}
@@ -0,0 +1,217 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+
+import java.util.List;
+
+// Составная кривая Безье: точки 0-3, 3-6, 6-9, ... образуют кубические сегменты,
+// оставшиеся в конце 1-2 точки - сегмент меньшей степени.
+// Дискретизация каждого сегмента кэшируется; при перемещении точки
+// пересчитываются только сегменты, в которые она входит. Не потокобезопасна
+public class CompositeBezierStrategy extends BezierStrategy {
+    static final int SEGMENT_DEGREE = 3;
+
+    // Точки предыдущего вызова, с ними сравнивается новый список
+    private double[] lastX = new double[0];
+    private double[] lastY = new double[0];
+    private boolean[] dirty = new boolean[0];
+    private int pointCount;
+    private int samplesPerSegment;
+
+    private final CurveBuffer samples = new CurveBuffer();
+    private int lastResampledSegments;
+
+    @Override
+    public List<Point2D> calculate(List<Point2D> controlPoints, int segments) {
+        CurveBuffer buffer = new CurveBuffer();
+        calculate(controlPoints, segments, buffer);
+        return buffer.toPointList();
+    }
+
+    @Override
+    public void calculate(List<Point2D> controlPoints, int segments, CurveBuffer buffer) {
+        if (controlPoints == null || controlPoints.size() < 2) {
+            throw new IllegalArgumentException("Need at least 2 control points");
+        }
+
+        int n = controlPoints.size();
+        int perSegment = Math.max(segments / getSegmentCount(n), 10);
+
+        if (n != pointCount || perSegment != samplesPerSegment) {
+            rebuild(controlPoints, perSegment);
+        } else {
+            updateChangedSegments(controlPoints);
+        }
+
+        buffer.clear();
+        buffer.addAll(samples);
+    }
+
+    @Override
+    public void calculateAdaptive(List<Point2D> controlPoints, double tolerance, CurveBuffer buffer) {
+        if (controlPoints == null || controlPoints.size() < 2) {
+            throw new IllegalArgumentException("Need at least 2 control points");
+        }
+
+        int n = controlPoints.size();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = controlPoints.get(i).getX();
+            y[i] = controlPoints.get(i).getY();
+        }
+
+        double[] segmentX = new double[SEGMENT_DEGREE + 1];
+        double[] segmentY = new double[SEGMENT_DEGREE + 1];
+        buffer.clear();
+
+        for (int segment = 0; segment < getSegmentCount(n); segment++) {
+            int start = getSegmentStart(segment);
+            int end = getSegmentEnd(segment, n);
+            for (int k = 0; k <= SEGMENT_DEGREE; k++) {
+                segmentX[k] = elevatedControl(x, start, end, k);
+                segmentY[k] = elevatedControl(y, start, end, k);
+            }
+            AdaptiveFlattener.flattenBezier(segmentX, segmentY, tolerance, buffer);
+        }
+    }
+
+    @Override
+    public Point2D calculatePoint(List<Point2D> points, double t) {
+        return fit(points).evaluate(t);
+    }
+
+    @Override
+    public FittedCurve<Point2D> fit(List<Point2D> controlPoints) {
+        return new CompositeBezierCurve(controlPoints);
+    }
+
+    public int getLastResampledSegmentCount() {
+        return lastResampledSegments;
+    }
+
+    static int getSegmentCount(int pointCount) {
+        return (pointCount - 1 + SEGMENT_DEGREE - 1) / SEGMENT_DEGREE;
+    }
+
+    static int getSegmentStart(int segment) {
+        return segment * SEGMENT_DEGREE;
+    }
+
+    static int getSegmentEnd(int segment, int pointCount) {
+        return Math.min(getSegmentStart(segment) + SEGMENT_DEGREE, pointCount - 1);
+    }
+
+    // Точка на стыке (индекс кратен 3) влияет на два соседних сегмента
+    static int getFirstAffectedSegment(int pointIndex) {
+        return pointIndex == 0 ? 0 : (pointIndex - 1) / SEGMENT_DEGREE;
+    }
+
+    static int getLastAffectedSegment(int pointIndex, int pointCount) {
+        return Math.min(pointIndex / SEGMENT_DEGREE, getSegmentCount(pointCount) - 1);
+    }
+
+    // k-я контрольная точка сегмента после повышения степени до кубической
+    // (повышение степени не меняет форму кривой)
+    static double elevatedControl(double[] values, int start, int end, int k) {
+        int degree = end - start;
+        if (degree == 3 || k == 0) {
+            return values[start + k];
+        }
+        if (k == 3) {
+            return values[end];
+        }
+        if (degree == 2) {
+            return k == 1
+                    ? (values[start] + 2 * values[start + 1]) / 3
+                    : (2 * values[start + 1] + values[end]) / 3;
+        }
+        return k == 1
+                ? (2 * values[start] + values[end]) / 3
+                : (values[start] + 2 * values[end]) / 3;
+    }
+
+    static double evaluateCubic(double p0, double p1, double p2, double p3, double t) {
+        double s = 1 - t;
+        return s * s * s * p0 + 3 * s * s * t * p1 + 3 * s * t * t * p2 + t * t * t * p3;
+    }
+
+    private void rebuild(List<Point2D> points, int perSegment) {
+        int n = points.size();
+        if (lastX.length < n) {
+            lastX = new double[n];
+            lastY = new double[n];
+        }
+        for (int i = 0; i < n; i++) {
+            lastX[i] = points.get(i).getX();
+            lastY[i] = points.get(i).getY();
+        }
+        pointCount = n;
+        samplesPerSegment = perSegment;
+
+        int segmentCount = getSegmentCount(n);
+        if (dirty.length < segmentCount) {
+            dirty = new boolean[segmentCount];
+        }
+
+        samples.clear();
+        samples.ensureCapacity(segmentCount * (perSegment + 1));
+        for (int i = 0; i < segmentCount * (perSegment + 1); i++) {
+            samples.add(0, 0);
+        }
+        for (int segment = 0; segment < segmentCount; segment++) {
+            resampleSegment(segment);
+        }
+        lastResampledSegments = segmentCount;
+    }
+
+    private void updateChangedSegments(List<Point2D> points) {
+        int segmentCount = getSegmentCount(pointCount);
+        boolean anyDirty = false;
+
+        for (int i = 0; i < pointCount; i++) {
+            Point2D point = points.get(i);
+            if (point.getX() == lastX[i] && point.getY() == lastY[i]) {
+                continue;
+            }
+
+            lastX[i] = point.getX();
+            lastY[i] = point.getY();
+
+            int last = getLastAffectedSegment(i, pointCount);
+            for (int segment = getFirstAffectedSegment(i); segment <= last; segment++) {
+                dirty[segment] = true;
+            }
+            anyDirty = true;
+        }
+
+        lastResampledSegments = 0;
+        if (!anyDirty) {
+            return;
+        }
+
+        for (int segment = 0; segment < segmentCount; segment++) {
+            if (dirty[segment]) {
+                dirty[segment] = false;
+                resampleSegment(segment);
+                lastResampledSegments++;
+            }
+        }
+    }
+
+    private void resampleSegment(int segment) {
+        int start = getSegmentStart(segment);
+        int end = getSegmentEnd(segment, pointCount);
+        int offset = segment * (samplesPerSegment + 1);
+
+        double x0 = elevatedControl(lastX, start, end, 0), y0 = elevatedControl(lastY, start, end, 0);
+        double x1 = elevatedControl(lastX, start, end, 1), y1 = elevatedControl(lastY, start, end, 1);
+        double x2 = elevatedControl(lastX, start, end, 2), y2 = elevatedControl(lastY, start, end, 2);
+        double x3 = elevatedControl(lastX, start, end, 3), y3 = elevatedControl(lastY, start, end, 3);
+
+        for (int j = 0; j <= samplesPerSegment; j++) {
+            double t = (double) j / samplesPerSegment;
+            samples.set(offset + j, evaluateCubic(x0, x1, x2, x3, t), evaluateCubic(y0, y1, y2, y3, t));
+        }
+    }
+}
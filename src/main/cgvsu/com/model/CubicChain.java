@@ -0,0 +1,151 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+
+// Цепочка кубических сегментов Безье, построенная по контрольному многоугольнику
+// вместо одной кривой высокой степени: построение O(n), точка O(1).
+// C2 - многоугольник считается равномерным кубическим B-сплайном с фантомными точками
+// 2*P0 - P1 и 2*Pn - P(n-1), поэтому кривая начинается в P0 и заканчивается в Pn.
+// C1 - квадратичный B-сплайн (сегменты между серединами сторон), концы закреплены в P0 и Pn.
+// Как и у CompositeBezierCurve, параметр t в [0, 1] равномерно делится между сегментами
+public final class CubicChain implements FittedCurve<Point2D> {
+
+    public enum Continuity {
+        C1,
+        C2
+    }
+
+    // Сегмент s использует точки 3s..3s+3, соседние сегменты делят общую точку
+    private final double[] x;
+    private final double[] y;
+    private final int segmentCount;
+
+    private CubicChain(double[] x, double[] y, int segmentCount) {
+        this.x = x;
+        this.y = y;
+        this.segmentCount = segmentCount;
+    }
+
+    // Используются первые count элементов массивов
+    public static CubicChain fromPolygon(double[] x, double[] y, int count, Continuity continuity) {
+        if (count < 2) {
+            throw new IllegalArgumentException("Need at least 2 control points");
+        }
+        return continuity == Continuity.C2 ? fromCubicBSpline(x, y, count) : fromQuadraticBSpline(x, y, count);
+    }
+
+    private static CubicChain fromCubicBSpline(double[] px, double[] py, int count) {
+        int n = count - 1;
+        double[] qx = withPhantomEnds(px, count);
+        double[] qy = withPhantomEnds(py, count);
+
+        int segmentCount = n;
+        double[] x = new double[3 * segmentCount + 1];
+        double[] y = new double[3 * segmentCount + 1];
+        for (int s = 0; s < segmentCount; s++) {
+            bSplineSegment(qx, s, x);
+            bSplineSegment(qy, s, y);
+        }
+        return new CubicChain(x, y, segmentCount);
+    }
+
+    private static double[] withPhantomEnds(double[] values, int count) {
+        double[] extended = new double[count + 2];
+        System.arraycopy(values, 0, extended, 1, count);
+        extended[0] = 2 * values[0] - values[1];
+        extended[count + 1] = 2 * values[count - 1] - values[count - 2];
+        return extended;
+    }
+
+    // Кубический B-сплайн в форме Безье по точкам q[s]..q[s+3]
+    private static void bSplineSegment(double[] q, int s, double[] out) {
+        out[3 * s] = (q[s] + 4 * q[s + 1] + q[s + 2]) / 6;
+        out[3 * s + 1] = (2 * q[s + 1] + q[s + 2]) / 3;
+        out[3 * s + 2] = (q[s + 1] + 2 * q[s + 2]) / 3;
+        out[3 * s + 3] = (q[s + 1] + 4 * q[s + 2] + q[s + 3]) / 6;
+    }
+
+    private static CubicChain fromQuadraticBSpline(double[] px, double[] py, int count) {
+        int n = count - 1;
+        int segmentCount = Math.max(n - 1, 1);
+        double[] x = new double[3 * segmentCount + 1];
+        double[] y = new double[3 * segmentCount + 1];
+
+        if (n == 1) {
+            elevateQuadratic(px[0], (px[0] + px[1]) / 2, px[1], 0, x);
+            elevateQuadratic(py[0], (py[0] + py[1]) / 2, py[1], 0, y);
+        } else {
+            for (int s = 0; s < segmentCount; s++) {
+                quadraticSegment(px, s, n, x);
+                quadraticSegment(py, s, n, y);
+            }
+        }
+        return new CubicChain(x, y, segmentCount);
+    }
+
+    // Квадратичный сегмент от середины стороны s до середины стороны s+1 с вершиной P(s+1)
+    private static void quadraticSegment(double[] p, int s, int n, double[] out) {
+        double start = s == 0 ? p[0] : (p[s] + p[s + 1]) / 2;
+        double end = s == n - 2 ? p[n] : (p[s + 1] + p[s + 2]) / 2;
+        elevateQuadratic(start, p[s + 1], end, s, out);
+    }
+
+    private static void elevateQuadratic(double start, double control, double end, int s, double[] out) {
+        out[3 * s] = start;
+        out[3 * s + 1] = (start + 2 * control) / 3;
+        out[3 * s + 2] = (2 * control + end) / 3;
+        out[3 * s + 3] = end;
+    }
+
+    @Override
+    public Point2D evaluate(double t) {
+        double[] point = new double[2];
+        evaluate(t, point, 0);
+        return new Point2D(point[0], point[1]);
+    }
+
+    @Override
+    public void evaluate(double t, CurveSink sink) {
+        int segment = findSegment(t);
+        double local = t * segmentCount - segment;
+        sink.accept(evaluateSegment(x, segment, local), evaluateSegment(y, segment, local));
+    }
+
+    // Запись точки в out[2 * index], out[2 * index + 1] для параллельной дискретизации
+    void evaluate(double t, double[] out, int index) {
+        int segment = findSegment(t);
+        double local = t * segmentCount - segment;
+        out[index * 2] = evaluateSegment(x, segment, local);
+        out[index * 2 + 1] = evaluateSegment(y, segment, local);
+    }
+
+    @Override
+    public double getStartParameter() {
+        return 0;
+    }
+
+    @Override
+    public double getEndParameter() {
+        return 1;
+    }
+
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    // Кубические контрольные точки сегмента в массивы длины 4
+    public void getSegment(int segment, double[] segmentX, double[] segmentY) {
+        System.arraycopy(x, 3 * segment, segmentX, 0, 4);
+        System.arraycopy(y, 3 * segment, segmentY, 0, 4);
+    }
+
+    private int findSegment(double t) {
+        int segment = (int) Math.floor(t * segmentCount);
+        return Math.max(0, Math.min(segmentCount - 1, segment));
+    }
+
+    private static double evaluateSegment(double[] values, int segment, double t) {
+        int start = 3 * segment;
+        return CompositeBezierStrategy.evaluateCubic(values[start], values[start + 1], values[start + 2], values[start + 3], t);
+    }
+}
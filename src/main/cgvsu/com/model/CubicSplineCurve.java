@@ -0,0 +1,82 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+
+import java.util.Arrays;
+
+public final class CubicSplineCurve implements FittedCurve<Point2D> {
+    private final double[] x;
+    private final double[] y;
+    private final double[] secondDerivatives;
+
+    // Массивы должны быть отсортированы по x; копии делает вызывающий код
+    CubicSplineCurve(double[] sortedX, double[] sortedY, double[] secondDerivatives) {
+        this.x = sortedX;
+        this.y = sortedY;
+        this.secondDerivatives = secondDerivatives;
+    }
+
+    @Override
+    public Point2D evaluate(double t) {
+        return new Point2D(clampX(t), evaluateY(t));
+    }
+
+    @Override
+    public void evaluate(double t, CurveSink sink) {
+        sink.accept(clampX(t), evaluateY(t));
+    }
+
+    // Для сплайна t - это x координата; вне диапазона возвращается ближайший конец
+    public double evaluateY(double t) {
+        int last = x.length - 1;
+        if (t <= x[0]) {
+            return y[0];
+        }
+        if (t >= x[last]) {
+            return y[last];
+        }
+
+        int i = findSegment(t);
+        double h = x[i + 1] - x[i];
+        double a = (x[i + 1] - t) / h;
+        double b = (t - x[i]) / h;
+
+        return a * y[i] + b * y[i + 1] +
+                ((a * a * a - a) * secondDerivatives[i] + (b * b * b - b) * secondDerivatives[i + 1]) * (h * h) / 6.0;
+    }
+
+    @Override
+    public double getStartParameter() {
+        return x[0];
+    }
+
+    @Override
+    public double getEndParameter() {
+        return x[x.length - 1];
+    }
+
+    public int getKnotCount() {
+        return x.length;
+    }
+
+    public double[] getKnotsX() {
+        return x.clone();
+    }
+
+    public double[] getSecondDerivatives() {
+        return secondDerivatives.clone();
+    }
+
+    // Бинарный поиск сегмента [x_i, x_{i+1}], содержащего t
+    int findSegment(double t) {
+        int index = Arrays.binarySearch(x, t);
+        if (index >= 0) {
+            return Math.min(index, x.length - 2);
+        }
+        return -index - 2;
+    }
+
+    private double clampX(double t) {
+        return Math.max(x[0], Math.min(x[x.length - 1], t));
+    }
+}
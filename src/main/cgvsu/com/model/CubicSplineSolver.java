@@ -0,0 +1,150 @@
+package main.cgvsu.com.model;
+
+// Вторые производные M кубического сплайна по узлам x (строго возрастающим) и значениям y.
+// Внутренние строки системы:
+// h[i-1] * M[i-1] + 2 * (h[i-1] + h[i]) * M[i] + h[i] * M[i+1] = 6 * (dy[i] - dy[i-1]),
+// где h[i] = x[i+1] - x[i], dy[i] = (y[i+1] - y[i]) / h[i]; первая и последняя строки
+// задаются граничным условием. Рабочие массивы только растут. Не потокобезопасен
+final class CubicSplineSolver {
+
+    private final TridiagonalSolver solver = new TridiagonalSolver();
+    private double[] lower = new double[0];
+    private double[] diagonal = new double[0];
+    private double[] upper = new double[0];
+    private double[] rhs = new double[0];
+
+    // startSlope и endSlope используются только для CLAMPED
+    void solve(double[] x, double[] y, int n, CubicSplineStrategy.BoundaryCondition condition,
+               double startSlope, double endSlope, double[] secondDerivatives) {
+        if (n < 2) {
+            throw new IllegalArgumentException("Need at least 2 control points");
+        }
+        ensureCapacity(n);
+
+        switch (condition) {
+            case NATURAL -> solveNatural(x, y, n, secondDerivatives);
+            case CLAMPED -> solveClamped(x, y, n, startSlope, endSlope, secondDerivatives);
+            case NOT_A_KNOT -> solveNotAKnot(x, y, n, secondDerivatives);
+            case PERIODIC -> solvePeriodic(x, y, n, secondDerivatives);
+        }
+    }
+
+    private void solveNatural(double[] x, double[] y, int n, double[] secondDerivatives) {
+        fillInteriorRows(x, y, n);
+        setIdentityRow(0);
+        setIdentityRow(n - 1);
+        solver.solve(lower, diagonal, upper, rhs, n, secondDerivatives);
+    }
+
+    // Заданные наклоны на концах
+    private void solveClamped(double[] x, double[] y, int n, double startSlope, double endSlope,
+                              double[] secondDerivatives) {
+        fillInteriorRows(x, y, n);
+
+        double h0 = x[1] - x[0];
+        lower[0] = 0;
+        diagonal[0] = 2 * h0;
+        upper[0] = h0;
+        rhs[0] = 6 * ((y[1] - y[0]) / h0 - startSlope);
+
+        double hLast = x[n - 1] - x[n - 2];
+        lower[n - 1] = hLast;
+        diagonal[n - 1] = 2 * hLast;
+        upper[n - 1] = 0;
+        rhs[n - 1] = 6 * (endSlope - (y[n - 1] - y[n - 2]) / hLast);
+
+        solver.solve(lower, diagonal, upper, rhs, n, secondDerivatives);
+    }
+
+    // Непрерывная третья производная в x[1] и x[n-2]: первые и последние два сегмента -
+    // один кубический многочлен. M[0] и M[n-1] исключаются из второй и предпоследней строк,
+    // решается система для M[1]..M[n-2], затем крайние значения восстанавливаются
+    private void solveNotAKnot(double[] x, double[] y, int n, double[] secondDerivatives) {
+        if (n == 2) {
+            secondDerivatives[0] = 0;
+            secondDerivatives[1] = 0;
+            return;
+        }
+        if (n == 3) {
+            // Одна парабола через три точки
+            double h0 = x[1] - x[0];
+            double h1 = x[2] - x[1];
+            double curvature = 2 * ((y[2] - y[1]) / h1 - (y[1] - y[0]) / h0) / (h0 + h1);
+            secondDerivatives[0] = curvature;
+            secondDerivatives[1] = curvature;
+            secondDerivatives[2] = curvature;
+            return;
+        }
+
+        fillInteriorRows(x, y, n);
+        int m = n - 2;
+
+        double h0 = x[1] - x[0];
+        double h1 = x[2] - x[1];
+        diagonal[1] = h0 + 2 * h1;
+        upper[1] = h1 - h0;
+        rhs[1] = rhs[1] * h1 / (h0 + h1);
+
+        double hPrev = x[n - 2] - x[n - 3];
+        double hLast = x[n - 1] - x[n - 2];
+        lower[n - 2] = hPrev - hLast;
+        diagonal[n - 2] = 2 * hPrev + hLast;
+        rhs[n - 2] = rhs[n - 2] * hPrev / (hPrev + hLast);
+
+        // Строки 1..n-2 решаются на месте, M[1]..M[n-2] записываются по тем же индексам
+        solver.solve(lower, diagonal, upper, rhs, 1, m, secondDerivatives);
+
+        secondDerivatives[0] = secondDerivatives[1] + h0 / h1 * (secondDerivatives[1] - secondDerivatives[2]);
+        secondDerivatives[n - 1] = secondDerivatives[n - 2]
+                + hLast / hPrev * (secondDerivatives[n - 2] - secondDerivatives[n - 3]);
+    }
+
+    // Замкнутая кривая: y[n-1] должен совпадать с y[0], узел n-1 - это узел 0 следующего периода.
+    // Неизвестные M[0]..M[n-2], система циклическая
+    private void solvePeriodic(double[] x, double[] y, int n, double[] secondDerivatives) {
+        if (y[n - 1] != y[0]) {
+            throw new IllegalArgumentException("Periodic spline requires equal first and last values");
+        }
+        int m = n - 1;
+        for (int i = 0; i < m; i++) {
+            // Для первого узла предыдущий сегмент - последний сегмент периода
+            double hPrev = i == 0 ? x[n - 1] - x[n - 2] : x[i] - x[i - 1];
+            double h = x[i + 1] - x[i];
+            double slopePrev = i == 0 ? (y[n - 1] - y[n - 2]) / hPrev : (y[i] - y[i - 1]) / hPrev;
+            lower[i] = hPrev;
+            diagonal[i] = 2 * (hPrev + h);
+            upper[i] = h;
+            rhs[i] = 6 * ((y[i + 1] - y[i]) / h - slopePrev);
+        }
+
+        solver.solveCyclic(lower, diagonal, upper, rhs, m, secondDerivatives);
+        secondDerivatives[n - 1] = secondDerivatives[0];
+    }
+
+    private void fillInteriorRows(double[] x, double[] y, int n) {
+        for (int i = 1; i < n - 1; i++) {
+            double hPrev = x[i] - x[i - 1];
+            double h = x[i + 1] - x[i];
+            lower[i] = hPrev;
+            diagonal[i] = 2 * (hPrev + h);
+            upper[i] = h;
+            rhs[i] = 6 * ((y[i + 1] - y[i]) / h - (y[i] - y[i - 1]) / hPrev);
+        }
+    }
+
+    private void setIdentityRow(int i) {
+        lower[i] = 0;
+        diagonal[i] = 1;
+        upper[i] = 0;
+        rhs[i] = 0;
+    }
+
+    private void ensureCapacity(int n) {
+        if (diagonal.length < n) {
+            lower = new double[n];
+            diagonal = new double[n];
+            upper = new double[n];
+            rhs = new double[n];
+        }
+    }
+}
@@ -5,6 +5,59 @@ import java.util.*;
 
 public class CubicSplineStrategy implements InterpolationStrategyImpl<Point2D> {
 
+    // Граничное условие сплайна:
+    // NATURAL - нулевые вторые производные на концах;
+    // CLAMPED - заданные наклоны на концах (setClampedSlopes);
+    // NOT_A_KNOT - непрерывная третья производная во втором и предпоследнем узлах;
+    // PERIODIC - замкнутая кривая, значения на концах должны совпадать
+    public enum BoundaryCondition {
+        NATURAL,
+        CLAMPED,
+        NOT_A_KNOT,
+        PERIODIC
+    }
+
+    private BoundaryCondition boundaryCondition = BoundaryCondition.NATURAL;
+    private double startSlope;
+    private double endSlope;
+
+    // Рабочие массивы для вычислений в буфер, переиспользуются между вызовами
+    private double[] knotX = new double[0];
+    private double[] knotY = new double[0];
+    private double[] secondDerivativesBuffer = new double[0];
+    private final CubicSplineSolver splineSolver = new CubicSplineSolver();
+
+    private final FitCache<CubicSplineCurve> fitCache = new FitCache<>();
+
+    public BoundaryCondition getBoundaryCondition() {
+        return boundaryCondition;
+    }
+
+    public void setBoundaryCondition(BoundaryCondition boundaryCondition) {
+        if (boundaryCondition == null) {
+            throw new IllegalArgumentException("Boundary condition must not be null");
+        }
+        if (this.boundaryCondition != boundaryCondition) {
+            this.boundaryCondition = boundaryCondition;
+            fitCache.invalidate();
+        }
+    }
+
+    public double getStartSlope() {
+        return startSlope;
+    }
+
+    public double getEndSlope() {
+        return endSlope;
+    }
+
+    // Наклоны dy/dx на концах для BoundaryCondition.CLAMPED
+    public void setClampedSlopes(double startSlope, double endSlope) {
+        this.startSlope = startSlope;
+        this.endSlope = endSlope;
+        fitCache.invalidate();
+    }
+
     @Override
     public List<Point2D> calculate(List<Point2D> controlPoints, int segments) {
         if (controlPoints == null || controlPoints.size() < 2) {
@@ -47,26 +100,89 @@ public class CubicSplineStrategy implements InterpolationStrategyImpl<Point2D> {
     }
 
     @Override
-    public Point2D calculatePoint(List<Point2D> points, double t) {
-        // Для сплайна t - это x координата
-        List<Point2D> sortedPoints = new ArrayList<>(points);
-        sortedPoints.sort(Comparator.comparingDouble(Point2D::getX));
+    public void calculate(List<Point2D> controlPoints, int segments, CurveBuffer buffer) {
+        if (controlPoints == null || controlPoints.size() < 2) {
+            throw new IllegalArgumentException("Need at least 2 control points");
+        }
 
-        double[] secondDerivatives = calculateSecondDerivatives(sortedPoints);
+        int n = controlPoints.size();
+        ensureWorkspace(n);
 
-        // Находим сегмент, в котором находится t
-        for (int i = 0; i < sortedPoints.size() - 1; i++) {
-            Point2D p1 = sortedPoints.get(i);
-            Point2D p2 = sortedPoints.get(i + 1);
+        for (int i = 0; i < n; i++) {
+            Point2D point = controlPoints.get(i);
+            knotX[i] = point.getX();
+            knotY[i] = point.getY();
+        }
+
+        sortByX(knotX, knotY, n);
+        checkUniqueX(knotX, n);
+        calculateSecondDerivatives(knotX, knotY, n, secondDerivativesBuffer);
+
+        int segmentSegments = Math.max(segments / (n - 1), 10);
+        buffer.clear();
+        buffer.ensureCapacity((n - 1) * (segmentSegments + 1));
 
-            if (t >= p1.getX() && t <= p2.getX()) {
-                double y = interpolateSpline(p1, p2, secondDerivatives[i], secondDerivatives[i + 1], t);
-                return new Point2D(t, y);
+        // Отмена проверяется примерно через каждые CHECK_INTERVAL точек
+        int checkEvery = Math.max(1, CurveCancellation.CHECK_INTERVAL / (segmentSegments + 1));
+        for (int i = 0; i < n - 1; i++) {
+            if (i % checkEvery == 0) {
+                CurveCancellation.checkpoint();
+            }
+            double segmentLength = knotX[i + 1] - knotX[i];
+
+            for (int j = 0; j <= segmentSegments; j++) {
+                double t = (double) j / segmentSegments;
+                double x = knotX[i] + t * segmentLength;
+                double y = interpolateSpline(knotX[i], knotY[i], knotX[i + 1], knotY[i + 1],
+                        secondDerivativesBuffer[i], secondDerivativesBuffer[i + 1], x);
+                buffer.add(x, y);
             }
         }
+    }
+
+    @Override
+    public void calculateAdaptive(List<Point2D> controlPoints, double tolerance, CurveBuffer buffer) {
+        CubicSplineCurve curve = (CubicSplineCurve) fit(controlPoints);
+        AdaptiveFlattener.flatten(curve, curve.getKnotsX(), tolerance, buffer);
+    }
+
+    // Для сплайна t - это x координата; вне диапазона возвращается ближайший конец.
+    // Кривая подгоняется один раз на набор точек, повторные запросы только вычисляют точку
+    @Override
+    public Point2D calculatePoint(List<Point2D> points, double t) {
+        return fit(points).evaluate(t);
+    }
 
-        // Если t вне диапазона, возвращаем ближайшую точку
-        return t < sortedPoints.get(0).getX() ? sortedPoints.get(0) : sortedPoints.get(sortedPoints.size() - 1);
+    // Возвращает одну и ту же кривую, пока точки и граничное условие не изменятся
+    @Override
+    public FittedCurve<Point2D> fit(List<Point2D> controlPoints) {
+        if (controlPoints == null || controlPoints.size() < 2) {
+            throw new IllegalArgumentException("Need at least 2 control points");
+        }
+        CubicSplineCurve curve = fitCache.get(controlPoints);
+        if (curve == null) {
+            curve = fitCurve(controlPoints);
+            fitCache.put(controlPoints, curve);
+        }
+        return curve;
+    }
+
+    private CubicSplineCurve fitCurve(List<Point2D> controlPoints) {
+        int n = controlPoints.size();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = controlPoints.get(i).getX();
+            y[i] = controlPoints.get(i).getY();
+        }
+
+        sortByX(x, y, n);
+        checkUniqueX(x, n);
+
+        double[] secondDerivatives = new double[n];
+        calculateSecondDerivatives(x, y, n, secondDerivatives);
+
+        return new CubicSplineCurve(x, y, secondDerivatives);
     }
 
     protected double[] calculateSecondDerivatives(List<Point2D> points) {
@@ -79,27 +195,26 @@ public class CubicSplineStrategy implements InterpolationStrategyImpl<Point2D> {
             y[i] = points.get(i).getY();
         }
 
-        double[] u = new double[n];
         double[] secondDerivatives = new double[n];
+        calculateSecondDerivatives(x, y, n, secondDerivatives);
 
-        // Тридиагональная система уравнений
-        for (int i = 1; i < n - 1; i++) {
-            double sig = (x[i] - x[i - 1]) / (x[i + 1] - x[i - 1]);
-            double p = sig * secondDerivatives[i - 1] + 2.0;
-            secondDerivatives[i] = (sig - 1.0) / p;
+        return secondDerivatives;
+    }
 
-            double dy1 = (y[i] - y[i - 1]) / (x[i] - x[i - 1]);
-            double dy2 = (y[i + 1] - y[i]) / (x[i + 1] - x[i]);
-            u[i] = (6.0 * (dy2 - dy1) / (x[i + 1] - x[i - 1]) - sig * u[i - 1]) / p;
-        }
+    // Тридиагональная (для PERIODIC - циклическая) система решается CubicSplineSolver
+    // в его собственных рабочих массивах
+    protected void calculateSecondDerivatives(double[] x, double[] y, int n, double[] secondDerivatives) {
+        splineSolver.solve(x, y, n, boundaryCondition, startSlope, endSlope, secondDerivatives);
+    }
 
-        // Обратная подстановка
-        secondDerivatives[n - 1] = 0;
-        for (int i = n - 2; i >= 0; i--) {
-            secondDerivatives[i] = secondDerivatives[i] * secondDerivatives[i + 1] + u[i];
-        }
+    protected double interpolateSpline(double x1, double y1, double x2, double y2,
+                                       double ypp1, double ypp2, double x) {
+        double h = x2 - x1;
+        double a = (x2 - x) / h;
+        double b = (x - x1) / h;
 
-        return secondDerivatives;
+        return a * y1 + b * y2 +
+                ((a * a * a - a) * ypp1 + (b * b * b - b) * ypp2) * (h * h) / 6.0;
     }
 
     protected double interpolateSpline(Point2D p1, Point2D p2, double ypp1, double ypp2, double x) {
@@ -110,4 +225,91 @@ public class CubicSplineStrategy implements InterpolationStrategyImpl<Point2D> {
         return a * p1.getY() + b * p2.getY() +
                 ((a * a * a - a) * ypp1 + (b * b * b - b) * ypp2) * (h * h) / 6.0;
     }
+
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    // Сортировка парных массивов по X без создания объектов.
+    // Устойчивость не нужна: совпадающие X все равно отклоняются проверкой
+    static void sortByX(double[] x, double[] y, int n) {
+        boolean sorted = true;
+        for (int i = 1; i < n && sorted; i++) {
+            sorted = x[i - 1] <= x[i];
+        }
+        if (sorted) {
+            return;
+        }
+
+        if (n <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(x, y, n);
+        } else {
+            heapSort(x, y, n);
+        }
+    }
+
+    private static void insertionSort(double[] x, double[] y, int n) {
+        for (int i = 1; i < n; i++) {
+            double keyX = x[i];
+            double keyY = y[i];
+            int j = i - 1;
+            while (j >= 0 && x[j] > keyX) {
+                x[j + 1] = x[j];
+                y[j + 1] = y[j];
+                j--;
+            }
+            x[j + 1] = keyX;
+            y[j + 1] = keyY;
+        }
+    }
+
+    private static void heapSort(double[] x, double[] y, int n) {
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(x, y, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(x, y, 0, end);
+            siftDown(x, y, 0, end);
+        }
+    }
+
+    private static void siftDown(double[] x, double[] y, int root, int size) {
+        while (true) {
+            int child = 2 * root + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && x[child + 1] > x[child]) {
+                child++;
+            }
+            if (x[root] >= x[child]) {
+                return;
+            }
+            swap(x, y, root, child);
+            root = child;
+        }
+    }
+
+    private static void swap(double[] x, double[] y, int i, int j) {
+        double tempX = x[i];
+        x[i] = x[j];
+        x[j] = tempX;
+        double tempY = y[i];
+        y[i] = y[j];
+        y[j] = tempY;
+    }
+
+    private static void checkUniqueX(double[] x, int n) {
+        for (int i = 1; i < n; i++) {
+            if (x[i] == x[i - 1]) {
+                throw new IllegalArgumentException("X coordinates must be unique for cubic spline");
+            }
+        }
+    }
+
+    private void ensureWorkspace(int n) {
+        if (knotX.length < n) {
+            knotX = new double[n];
+            knotY = new double[n];
+            secondDerivativesBuffer = new double[n];
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class CurveBuffer implements CurveSink {
+    private static final int DEFAULT_CAPACITY = 256;
+
+    // Координаты хранятся попарно: x0, y0, x1, y1, ...
+    private double[] data;
+    private int size;
+
+    public CurveBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CurveBuffer(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        this.data = new double[initialCapacity * 2];
+    }
+
+    public void add(double x, double y) {
+        if (size * 2 + 2 > data.length) {
+            ensureCapacity(size + 1);
+        }
+        data[size * 2] = x;
+        data[size * 2 + 1] = y;
+        size++;
+    }
+
+    public void addAll(CurveBuffer other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.data, 0, data, size * 2, other.size * 2);
+        size += other.size;
+    }
+
+    @Override
+    public void accept(double x, double y) {
+        add(x, y);
+    }
+
+    // Дописывает точки из буфера с чередующимися x, y (например, отображенного в память файла)
+    public void addAll(DoubleBuffer interleaved) {
+        int count = interleaved.remaining() / 2;
+        ensureCapacity(size + count);
+        interleaved.get(data, size * 2, count * 2);
+        size += count;
+    }
+
+    public void set(int index, double x, double y) {
+        checkIndex(index);
+        data[index * 2] = x;
+        data[index * 2 + 1] = y;
+    }
+
+    public void ensureCapacity(int pointCount) {
+        if (pointCount * 2 <= data.length) {
+            return;
+        }
+        // Буфер только растет, чтобы при повторном использовании не было аллокаций
+        int newCapacity = Math.max(pointCount, Math.max(DEFAULT_CAPACITY, capacity() * 2));
+        data = Arrays.copyOf(data, newCapacity * 2);
+    }
+
+    // Устанавливает число точек; новые точки не инициализируются и заполняются через set или getData
+    public void resize(int pointCount) {
+        if (pointCount < 0) {
+            throw new IllegalArgumentException("Size must be non-negative");
+        }
+        ensureCapacity(pointCount);
+        size = pointCount;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int capacity() {
+        return data.length / 2;
+    }
+
+    public double getX(int index) {
+        checkIndex(index);
+        return data[index * 2];
+    }
+
+    public double getY(int index) {
+        checkIndex(index);
+        return data[index * 2 + 1];
+    }
+
+    public double[] getData() {
+        // Валидны только первые size() * 2 элементов
+        return data;
+    }
+
+    public List<Point2D> toPointList() {
+        List<Point2D> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            points.add(new Point2D(data[i * 2], data[i * 2 + 1]));
+        }
+        return points;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+}
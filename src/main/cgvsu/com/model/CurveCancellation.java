@@ -0,0 +1,50 @@
+package main.cgvsu.com.model;
+
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+// Кооперативная отмена вычисления кривой. Владелец вычисления (например, CurveComputationService)
+// задает проверку для текущего потока на время задачи, а длинные циклы дискретизации вызывают
+// checkpoint() между частями по CHECK_INTERVAL точек и прерываются CancellationException.
+// Проверки стоят только в циклах, которые пишут результат и не меняют состояние стратегии,
+// поэтому после отмены стратегия остается согласованной. Без заданной проверки отмены нет
+public final class CurveCancellation {
+    static final int CHECK_INTERVAL = 1024;
+
+    private static final BooleanSupplier NEVER = () -> false;
+    private static final ThreadLocal<BooleanSupplier> CURRENT = new ThreadLocal<>();
+
+    private CurveCancellation() {
+    }
+
+    // Выполняет action, пока cancelled возвращает false; иначе action завершается CancellationException
+    public static void run(BooleanSupplier cancelled, Runnable action) {
+        BooleanSupplier previous = CURRENT.get();
+        CURRENT.set(cancelled);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void checkpoint() {
+        check(current());
+    }
+
+    // Проверка потока, запустившего вычисление; передается частям, выполняемым в других потоках
+    static BooleanSupplier current() {
+        BooleanSupplier cancelled = CURRENT.get();
+        return cancelled != null ? cancelled : NEVER;
+    }
+
+    static void check(BooleanSupplier cancelled) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException("Curve computation cancelled");
+        }
+    }
+}
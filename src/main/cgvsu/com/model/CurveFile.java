@@ -0,0 +1,149 @@
+package main.cgvsu.com.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Двоичный формат точек и кривых. Файл - последовательность блоков:
+//   int magic, int version, long pointCount - заголовок 16 байт,
+//   pointCount пар x, y - double в little-endian.
+// Файл точек содержит один блок, результат пакетной обработки - по блоку на кривую.
+// Чтение и запись идут через отображение файла в память, поэтому данные копируются
+// в CurveBuffer одним блоком без разбора текста и без объектов на каждую точку
+public final class CurveFile {
+    static final int MAGIC = 0x31564943; // "CIV1"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int POINT_BYTES = 2 * Double.BYTES;
+
+    // Отображение ограничено 2 ГБ, большие блоки обрабатываются частями, кратными точке
+    private static final long MAX_MAPPED_BYTES = (Integer.MAX_VALUE / POINT_BYTES) * (long) POINT_BYTES;
+    private static final int APPEND_CHUNK_BYTES = 64 * 1024;
+
+    private CurveFile() {
+    }
+
+    public static void write(Path file, CurveBuffer curve) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            writeHeader(header.order(ByteOrder.LITTLE_ENDIAN), curve.size());
+
+            double[] data = curve.getData();
+            long dataBytes = (long) curve.size() * POINT_BYTES;
+            for (long offset = 0; offset < dataBytes; offset += MAX_MAPPED_BYTES) {
+                long length = Math.min(MAX_MAPPED_BYTES, dataBytes - offset);
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + offset, length);
+                chunk.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer()
+                        .put(data, (int) (offset / Double.BYTES), (int) (length / Double.BYTES));
+            }
+        }
+    }
+
+    // Дописывает блок в текущую позицию канала; используется для потоковой записи
+    // многих кривых, когда размер файла заранее неизвестен
+    public static void append(FileChannel channel, CurveBuffer curve) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(APPEND_CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        writeHeader(bytes, curve.size());
+
+        double[] data = curve.getData();
+        int valueCount = curve.size() * 2;
+        int written = 0;
+        while (written < valueCount || bytes.position() > 0) {
+            int count = Math.min(bytes.remaining() / Double.BYTES, valueCount - written);
+            bytes.asDoubleBuffer().put(data, written, count);
+            bytes.position(bytes.position() + count * Double.BYTES);
+            written += count;
+
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            bytes.clear();
+        }
+    }
+
+    // Первый блок файла
+    public static CurveBuffer read(Path file) throws IOException {
+        CurveBuffer buffer = new CurveBuffer(0);
+        read(file, buffer);
+        return buffer;
+    }
+
+    // Заменяет содержимое буфера первым блоком файла
+    public static void read(Path file, CurveBuffer buffer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer.clear();
+            if (readBlock(channel, 0, buffer) < 0) {
+                throw new IOException("Empty curve file: " + file);
+            }
+        }
+    }
+
+    public static List<CurveBuffer> readAll(Path file) throws IOException {
+        List<CurveBuffer> curves = new ArrayList<>();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = 0;
+            while (true) {
+                CurveBuffer curve = new CurveBuffer(0);
+                position = readBlock(channel, position, curve);
+                if (position < 0) {
+                    break;
+                }
+                curves.add(curve);
+            }
+        }
+
+        return curves;
+    }
+
+    private static void writeHeader(ByteBuffer bytes, int pointCount) {
+        bytes.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(pointCount);
+    }
+
+    // Возвращает позицию следующего блока или -1 в конце файла
+    private static long readBlock(FileChannel channel, long position, CurveBuffer buffer) throws IOException {
+        long fileSize = channel.size();
+        if (position == fileSize) {
+            return -1;
+        }
+        if (fileSize - position < HEADER_BYTES) {
+            throw new IOException("Truncated curve file header at " + position);
+        }
+
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, position, HEADER_BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a curve file");
+        }
+        int version = header.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported curve file version: " + version);
+        }
+        long pointCount = header.getLong();
+        long dataStart = position + HEADER_BYTES;
+        if (pointCount < 0 || pointCount > Integer.MAX_VALUE / 2
+                || pointCount * POINT_BYTES > fileSize - dataStart) {
+            throw new IOException("Corrupted curve file: invalid point count " + pointCount);
+        }
+
+        long dataBytes = pointCount * POINT_BYTES;
+        buffer.ensureCapacity(buffer.size() + (int) pointCount);
+        for (long offset = 0; offset < dataBytes; offset += MAX_MAPPED_BYTES) {
+            long length = Math.min(MAX_MAPPED_BYTES, dataBytes - offset);
+            DoubleBuffer values = channel.map(FileChannel.MapMode.READ_ONLY, dataStart + offset, length)
+                    .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            buffer.addAll(values);
+        }
+
+        return dataStart + dataBytes;
+    }
+}
@@ -0,0 +1,7 @@
+package main.cgvsu.com.model;
+
+// Потребитель точек кривой: получает координаты по одной, без создания объектов
+@FunctionalInterface
+public interface CurveSink {
+    void accept(double x, double y);
+}
@@ -0,0 +1,85 @@
+package main.cgvsu.com.model;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+// Ленивый обход точек равномерной дискретизации кривой (индексы 0..segments).
+// Как и примитивные Spliterator из JDK, кроме обхода объектами поддерживает
+// обход через CurveSink без создания объектов. trySplit делит диапазон индексов
+// пополам, поэтому части можно обрабатывать параллельно; FittedCurve неизменяемы
+public class CurveSpliterator<T> implements Spliterator<T> {
+    private final FittedCurve<T> curve;
+    private final int segments;
+    private int index;
+    private final int end;
+
+    public CurveSpliterator(FittedCurve<T> curve, int segments) {
+        this(curve, segments, 0, segments + 1);
+    }
+
+    private CurveSpliterator(FittedCurve<T> curve, int segments, int index, int end) {
+        if (segments <= 0) {
+            throw new IllegalArgumentException("Segments must be positive");
+        }
+        this.curve = curve;
+        this.segments = segments;
+        this.index = index;
+        this.end = end;
+    }
+
+    // Индекс следующей точки во всей дискретизации
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean tryAdvance(CurveSink sink) {
+        if (index >= end) {
+            return false;
+        }
+        curve.evaluate(curve.getSampleParameter(index++, segments), sink);
+        return true;
+    }
+
+    public void forEachRemaining(CurveSink sink) {
+        for (; index < end; index++) {
+            curve.evaluate(curve.getSampleParameter(index, segments), sink);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(curve.evaluate(curve.getSampleParameter(index++, segments)));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        for (; index < end; index++) {
+            action.accept(curve.evaluate(curve.getSampleParameter(index, segments)));
+        }
+    }
+
+    @Override
+    public CurveSpliterator<T> trySplit() {
+        int middle = (index + end) >>> 1;
+        if (middle <= index) {
+            return null;
+        }
+        CurveSpliterator<T> prefix = new CurveSpliterator<>(curve, segments, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+}
@@ -0,0 +1,54 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+
+import java.util.List;
+
+// Последняя подогнанная кривая и координаты точек (в исходном порядке), по которым она построена.
+// Позволяет стратегии подгонять кривую один раз на набор точек; сравнение - O(n) без создания объектов.
+// Не потокобезопасен
+final class FitCache<C> {
+    private C curve;
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    private int count;
+
+    // Кривая для тех же точек или null
+    C get(List<Point2D> points) {
+        return curve != null && matches(points) ? curve : null;
+    }
+
+    void put(List<Point2D> points, C curve) {
+        int n = points.size();
+        if (x.length < n) {
+            x = new double[n];
+            y = new double[n];
+        }
+        for (int i = 0; i < n; i++) {
+            Point2D point = points.get(i);
+            x[i] = point.getX();
+            y[i] = point.getY();
+        }
+        count = n;
+        this.curve = curve;
+    }
+
+    // Вызывается при смене настроек, влияющих на кривую
+    void invalidate() {
+        curve = null;
+    }
+
+    private boolean matches(List<Point2D> points) {
+        int n = points.size();
+        if (n != count) {
+            return false;
+        }
+        for (int i = 0; i < n; i++) {
+            Point2D point = points.get(i);
+            if (point.getX() != x[i] || point.getY() != y[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+package main.cgvsu.com.model;
+
+public interface FittedCurve<T> {
+    T evaluate(double t);
+
+    // Передает точку кривой потребителю (например, CurveBuffer) без создания объектов
+    void evaluate(double t, CurveSink sink);
+
+    double getStartParameter();
+    double getEndParameter();
+
+    default void sample(int segments, CurveBuffer buffer) {
+        buffer.clear();
+        buffer.ensureCapacity(segments + 1);
+        forEachSample(segments, buffer);
+    }
+
+    // Потоковая дискретизация: segments + 1 точек передаются потребителю по мере
+    // вычисления, память не зависит от числа сегментов
+    default void forEachSample(int segments, CurveSink sink) {
+        for (int i = 0; i <= segments; i++) {
+            if (i % CurveCancellation.CHECK_INTERVAL == 0) {
+                CurveCancellation.checkpoint();
+            }
+            evaluate(getSampleParameter(i, segments), sink);
+        }
+    }
+
+    // Разделяемый поток точек для параллельной обработки частей кривой
+    default CurveSpliterator<T> spliterator(int segments) {
+        return new CurveSpliterator<>(this, segments);
+    }
+
+    default double getSampleParameter(int index, int segments) {
+        double start = getStartParameter();
+        double end = getEndParameter();
+        double t = (double) index / segments;
+        return start + t * (end - start);
+    }
+}
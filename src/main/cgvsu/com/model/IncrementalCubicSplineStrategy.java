@@ -0,0 +1,299 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Кубический сплайн, сохраняющий состояние между вызовами.
+// Если между вызовами изменилась одна точка (перетаскивание), то:
+// - при изменении только Y переиспользуется разложение системы и пересчитывается правая часть;
+// - при изменении X точка локально пересортировывается, разложение пересчитывается от нее;
+// - заново дискретизируются только сегменты, значения которых действительно изменились.
+// Для граничных условий, отличных от NATURAL, используется полный пересчет CubicSplineStrategy.
+// Не потокобезопасен
+public class IncrementalCubicSplineStrategy extends CubicSplineStrategy {
+    // Изменения сплайна меньше этой величины (в единицах координат) не требуют пересчета сегмента
+    private static final double RESAMPLE_TOLERANCE = 1e-9;
+
+    private int knotCount;
+    private int segmentSamples;
+
+    // Точки предыдущего вызова в исходном порядке
+    private double[] lastX = new double[0];
+    private double[] lastY = new double[0];
+
+    // Узлы, отсортированные по X, и перестановка между порядками
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    private int[] order = new int[0];
+    private int[] rank = new int[0];
+
+    // Разложение трехдиагональной системы (зависит только от X) и решение
+    private double[] sig = new double[0];
+    private double[] pivot = new double[0];
+    private double[] upper = new double[0];
+    private double[] rhs = new double[0];
+    private double[] secondDerivatives = new double[0];
+
+    // Вторые производные, с которыми сегмент был дискретизирован последний раз
+    private double[] sampledLeft = new double[0];
+    private double[] sampledRight = new double[0];
+
+    private final CurveBuffer samples = new CurveBuffer();
+    private int lastResampledSegments;
+
+    @Override
+    public List<Point2D> calculate(List<Point2D> controlPoints, int segments) {
+        CurveBuffer buffer = new CurveBuffer();
+        calculate(controlPoints, segments, buffer);
+        return buffer.toPointList();
+    }
+
+    @Override
+    public void calculate(List<Point2D> controlPoints, int segments, CurveBuffer buffer) {
+        if (controlPoints == null || controlPoints.size() < 2) {
+            throw new IllegalArgumentException("Need at least 2 control points");
+        }
+
+        // Инкрементальный пересчет реализован только для естественного сплайна
+        if (getBoundaryCondition() != BoundaryCondition.NATURAL) {
+            knotCount = 0;
+            super.calculate(controlPoints, segments, buffer);
+            return;
+        }
+
+        int n = controlPoints.size();
+        int samplesPerSegment = Math.max(segments / (n - 1), 10);
+
+        try {
+            if (!updateIncrementally(controlPoints, samplesPerSegment)) {
+                rebuild(controlPoints, samplesPerSegment);
+            }
+        } catch (IllegalArgumentException e) {
+            knotCount = 0;
+            throw e;
+        }
+
+        buffer.clear();
+        buffer.addAll(samples);
+    }
+
+    public int getLastResampledSegmentCount() {
+        return lastResampledSegments;
+    }
+
+    private boolean updateIncrementally(List<Point2D> points, int samplesPerSegment) {
+        int n = points.size();
+        if (n != knotCount || samplesPerSegment != segmentSamples) {
+            return false;
+        }
+
+        int changed = -1;
+        for (int i = 0; i < n; i++) {
+            Point2D point = points.get(i);
+            if (point.getX() != lastX[i] || point.getY() != lastY[i]) {
+                if (changed != -1) {
+                    return false;
+                }
+                changed = i;
+            }
+        }
+
+        lastResampledSegments = 0;
+        if (changed == -1) {
+            return true;
+        }
+
+        Point2D point = points.get(changed);
+        lastX[changed] = point.getX();
+        lastY[changed] = point.getY();
+
+        int k = rank[changed];
+        int firstDirty;
+        int lastDirty;
+
+        if (x[k] == point.getX()) {
+            y[k] = point.getY();
+            solveFrom(k - 1);
+            firstDirty = k - 1;
+            lastDirty = k;
+        } else {
+            x[k] = point.getX();
+            y[k] = point.getY();
+            int position = moveToSortedPosition(k);
+            checkNeighbours(position);
+
+            int low = Math.min(k, position);
+            int high = Math.max(k, position);
+            factorizeFrom(low - 1);
+            solveFrom(low - 1);
+            firstDirty = low - 1;
+            lastDirty = high;
+        }
+
+        resampleChanged(Math.max(firstDirty, 0), Math.min(lastDirty, n - 2));
+        return true;
+    }
+
+    private void rebuild(List<Point2D> points, int samplesPerSegment) {
+        int n = points.size();
+        ensureCapacity(n);
+
+        Integer[] indices = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            indices[i] = i;
+            lastX[i] = points.get(i).getX();
+            lastY[i] = points.get(i).getY();
+        }
+        Arrays.sort(indices, (a, b) -> Double.compare(lastX[a], lastX[b]));
+
+        for (int k = 0; k < n; k++) {
+            int original = indices[k];
+            order[k] = original;
+            rank[original] = k;
+            x[k] = lastX[original];
+            y[k] = lastY[original];
+        }
+
+        for (int k = 1; k < n; k++) {
+            if (x[k] == x[k - 1]) {
+                throw new IllegalArgumentException("X coordinates must be unique for cubic spline");
+            }
+        }
+
+        knotCount = n;
+        segmentSamples = samplesPerSegment;
+
+        factorizeFrom(1);
+        solveFrom(1);
+
+        samples.clear();
+        samples.ensureCapacity((n - 1) * (samplesPerSegment + 1));
+        for (int i = 0; i < (n - 1) * (samplesPerSegment + 1); i++) {
+            samples.add(0, 0);
+        }
+        for (int i = 0; i < n - 1; i++) {
+            resampleSegment(i);
+        }
+        lastResampledSegments = n - 1;
+    }
+
+    // Коэффициенты прогонки зависят только от X, поэтому при изменении Y не пересчитываются
+    private void factorizeFrom(int start) {
+        int n = knotCount;
+        upper[0] = 0;
+        for (int i = Math.max(start, 1); i < n - 1; i++) {
+            sig[i] = (x[i] - x[i - 1]) / (x[i + 1] - x[i - 1]);
+            pivot[i] = sig[i] * upper[i - 1] + 2.0;
+            upper[i] = (sig[i] - 1.0) / pivot[i];
+        }
+    }
+
+    // Прямой ход по правой части начиная с первой измененной строки и полный обратный ход
+    private void solveFrom(int start) {
+        int n = knotCount;
+        rhs[0] = 0;
+        for (int i = Math.max(start, 1); i < n - 1; i++) {
+            double dy1 = (y[i] - y[i - 1]) / (x[i] - x[i - 1]);
+            double dy2 = (y[i + 1] - y[i]) / (x[i + 1] - x[i]);
+            rhs[i] = (6.0 * (dy2 - dy1) / (x[i + 1] - x[i - 1]) - sig[i] * rhs[i - 1]) / pivot[i];
+        }
+
+        secondDerivatives[n - 1] = 0;
+        secondDerivatives[0] = 0;
+        for (int i = n - 2; i >= 1; i--) {
+            secondDerivatives[i] = upper[i] * secondDerivatives[i + 1] + rhs[i];
+        }
+    }
+
+    private void resampleChanged(int firstForced, int lastForced) {
+        for (int i = 0; i < knotCount - 1; i++) {
+            boolean forced = i >= firstForced && i <= lastForced;
+            if (forced || segmentChanged(i)) {
+                resampleSegment(i);
+                lastResampledSegments++;
+            }
+        }
+    }
+
+    private boolean segmentChanged(int i) {
+        double h = x[i + 1] - x[i];
+        double effect = Math.max(Math.abs(secondDerivatives[i] - sampledLeft[i]),
+                Math.abs(secondDerivatives[i + 1] - sampledRight[i])) * h * h / 6.0;
+        return effect > RESAMPLE_TOLERANCE;
+    }
+
+    private void resampleSegment(int i) {
+        int offset = i * (segmentSamples + 1);
+        double segmentLength = x[i + 1] - x[i];
+
+        for (int j = 0; j <= segmentSamples; j++) {
+            double t = (double) j / segmentSamples;
+            double sampleX = x[i] + t * segmentLength;
+            double sampleY = interpolateSpline(x[i], y[i], x[i + 1], y[i + 1],
+                    secondDerivatives[i], secondDerivatives[i + 1], sampleX);
+            samples.set(offset + j, sampleX, sampleY);
+        }
+
+        sampledLeft[i] = secondDerivatives[i];
+        sampledRight[i] = secondDerivatives[i + 1];
+    }
+
+    // Локальная пересортировка: узел сдвигается к соседям, пока порядок не восстановится
+    private int moveToSortedPosition(int k) {
+        int position = k;
+        while (position > 0 && x[position - 1] > x[position]) {
+            swapKnots(position - 1, position);
+            position--;
+        }
+        while (position < knotCount - 1 && x[position + 1] < x[position]) {
+            swapKnots(position, position + 1);
+            position++;
+        }
+        return position;
+    }
+
+    private void checkNeighbours(int position) {
+        if ((position > 0 && x[position - 1] == x[position])
+                || (position < knotCount - 1 && x[position + 1] == x[position])) {
+            throw new IllegalArgumentException("X coordinates must be unique for cubic spline");
+        }
+    }
+
+    private void swapKnots(int a, int b) {
+        double tempX = x[a];
+        x[a] = x[b];
+        x[b] = tempX;
+
+        double tempY = y[a];
+        y[a] = y[b];
+        y[b] = tempY;
+
+        int tempOrder = order[a];
+        order[a] = order[b];
+        order[b] = tempOrder;
+
+        rank[order[a]] = a;
+        rank[order[b]] = b;
+    }
+
+    private void ensureCapacity(int n) {
+        if (x.length >= n) {
+            return;
+        }
+        lastX = new double[n];
+        lastY = new double[n];
+        x = new double[n];
+        y = new double[n];
+        order = new int[n];
+        rank = new int[n];
+        sig = new double[n];
+        pivot = new double[n];
+        upper = new double[n];
+        rhs = new double[n];
+        secondDerivatives = new double[n];
+        sampledLeft = new double[n];
+        sampledRight = new double[n];
+    }
+}
@@ -6,15 +6,19 @@ public class InterpolationStrategyFactory {
 
     public enum StrategyType {
         BEZIER,
+        COMPOSITE_BEZIER,
         LAGRANGE,
-        SPLINE
+        SPLINE,
+        PARAMETRIC_SPLINE
     }
 
     public static InterpolationStrategyImpl<Point2D> createStrategy(StrategyType type) {
         return switch (type) {
             case BEZIER -> new BezierStrategy();
+            case COMPOSITE_BEZIER -> new CompositeBezierStrategy();
             case LAGRANGE -> new LagrangeStrategy();
-            case SPLINE -> new CubicSplineStrategy();
+            case SPLINE -> new IncrementalCubicSplineStrategy();
+            case PARAMETRIC_SPLINE -> new ParametricSplineStrategy();
             default -> throw new IllegalArgumentException("Unknown strategy type: " + type);
         };
     }
@@ -1,8 +1,36 @@
 package main.cgvsu.com.model;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 public interface InterpolationStrategyImpl<T> {
     List<T> calculate(List<T> controlPoints, int segments);
     T calculatePoint(List<T> points, double t);
-}
\ No newline at end of file
+
+    // Вычисление кривой в переиспользуемый буфер без создания объектов на каждую точку
+    void calculate(List<T> controlPoints, int segments, CurveBuffer buffer);
+
+    // Адаптивная дискретизация: минимум вершин при отклонении от кривой не больше tolerance
+    void calculateAdaptive(List<T> controlPoints, double tolerance, CurveBuffer buffer);
+
+    // Однократная подготовка кривой для многократного вычисления точек
+    FittedCurve<T> fit(List<T> controlPoints);
+
+    // Потоковое вычисление: точки равномерной дискретизации подготовленной кривой
+    // передаются потребителю по одной, кривая целиком в памяти не хранится
+    default void stream(List<T> controlPoints, int segments, CurveSink sink) {
+        fit(controlPoints).forEachSample(segments, sink);
+    }
+
+    default CurveSpliterator<T> spliterator(List<T> controlPoints, int segments) {
+        return fit(controlPoints).spliterator(segments);
+    }
+
+    // Вычисление кривой сразу в двоичный файл формата CurveFile
+    default void calculateToFile(List<T> controlPoints, int segments, Path file) throws IOException {
+        CurveBuffer buffer = new CurveBuffer(segments + 1);
+        calculate(controlPoints, segments, buffer);
+        CurveFile.write(file, buffer);
+    }
+}
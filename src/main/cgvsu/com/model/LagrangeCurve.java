@@ -0,0 +1,70 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+
+public final class LagrangeCurve implements FittedCurve<Point2D> {
+    private final double[] x;
+    private final double[] y;
+    private final double[] weights;
+    private final double minX;
+    private final double maxX;
+
+    // Массивы не копируются: их готовит BarycentricLagrangeInterpolator.toCurve()
+    LagrangeCurve(double[] x, double[] y, double[] weights) {
+        this.x = x;
+        this.y = y;
+        this.weights = weights;
+
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (double value : x) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        this.minX = min;
+        this.maxX = max;
+    }
+
+    @Override
+    public Point2D evaluate(double t) {
+        return new Point2D(t, evaluateY(t));
+    }
+
+    @Override
+    public void evaluate(double t, CurveSink sink) {
+        sink.accept(t, evaluateY(t));
+    }
+
+    // Для полинома Лагранжа t - это x координата
+    public double evaluateY(double t) {
+        // Вторая (истинная) барицентрическая формула
+        double numerator = 0;
+        double denominator = 0;
+
+        for (int j = 0; j < x.length; j++) {
+            double diff = t - x[j];
+            if (diff == 0) {
+                return y[j];
+            }
+            double term = weights[j] / diff;
+            numerator += term * y[j];
+            denominator += term;
+        }
+
+        return numerator / denominator;
+    }
+
+    @Override
+    public double getStartParameter() {
+        return minX;
+    }
+
+    @Override
+    public double getEndParameter() {
+        return maxX;
+    }
+
+    public int getNodeCount() {
+        return x.length;
+    }
+}
@@ -2,44 +2,133 @@ package main.cgvsu.com.model;
 
 import javafx.geometry.Point2D;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class LagrangeStrategy implements InterpolationStrategyImpl<Point2D> {
 
+    // Узлы предыдущего вызова; при добавлении, удалении или перемещении
+    // одной точки веса обновляются за O(n) вместо полного пересчета
+    private final BarycentricLagrangeInterpolator interpolator = new BarycentricLagrangeInterpolator();
+
+    // Параллельная дискретизация включается явно и только для числа точек больше порога
+    private boolean parallel;
+    private int parallelThreshold = ParallelSampling.DEFAULT_THRESHOLD;
+
     @Override
     public List<Point2D> calculate(List<Point2D> controlPoints, int segments) {
         if (controlPoints == null || controlPoints.size() < 2) {
             throw new IllegalArgumentException("Need at least 2 control points");
         }
 
+        synchronizeNodes(controlPoints);
+
         List<Point2D> curvePoints = new ArrayList<>();
 
         // Для полинома Лагранжа используем равномерные значения параметра
-        double minX = controlPoints.stream().mapToDouble(Point2D::getX).min().orElse(0);
-        double maxX = controlPoints.stream().mapToDouble(Point2D::getX).max().orElse(1);
+        double minX = interpolator.getMinX();
+        double maxX = interpolator.getMaxX();
 
         for (int i = 0; i <= segments; i++) {
             double t = (double) i / segments;
             double x = minX + t * (maxX - minX);
-            Point2D point = calculatePointForX(controlPoints, x);
-            curvePoints.add(point);
+            curvePoints.add(new Point2D(x, interpolator.evaluate(x)));
         }
 
         return curvePoints;
     }
 
+    @Override
+    public void calculate(List<Point2D> controlPoints, int segments, CurveBuffer buffer) {
+        if (controlPoints == null || controlPoints.size() < 2) {
+            throw new IllegalArgumentException("Need at least 2 control points");
+        }
+
+        synchronizeNodes(controlPoints);
+
+        int count = segments + 1;
+        if (!parallel || count <= parallelThreshold) {
+            buffer.clear();
+            buffer.resize(count);
+            double[] out = buffer.getData();
+            for (int from = 0; from < count; from += CurveCancellation.CHECK_INTERVAL) {
+                CurveCancellation.checkpoint();
+                sampleRange(segments, from, Math.min(from + CurveCancellation.CHECK_INTERVAL, count), out);
+            }
+            return;
+        }
+
+        // Интерполятор при вычислении точек только читается, поэтому части можно считать параллельно
+        ParallelSampling.sample(count, parallelThreshold, (from, to, out) -> sampleRange(segments, from, to, out), buffer);
+    }
+
+    private void sampleRange(int segments, int from, int to, double[] out) {
+        double minX = interpolator.getMinX();
+        double maxX = interpolator.getMaxX();
+        for (int i = from; i < to; i++) {
+            double t = (double) i / segments;
+            double x = minX + t * (maxX - minX);
+            out[i * 2] = x;
+            out[i * 2 + 1] = interpolator.evaluate(x);
+        }
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        ParallelSampling.checkThreshold(parallelThreshold);
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    public void calculateAdaptive(List<Point2D> controlPoints, double tolerance, CurveBuffer buffer) {
+        FittedCurve<Point2D> curve = fit(controlPoints);
+
+        // Узлы - только начальное разбиение: полином высокой степени может колебаться
+        // между ними сколько угодно раз (эффект Рунге), дальше интервалы делятся по допуску,
+        // а общее число вершин ограничено AdaptiveFlattener.MAX_VERTICES
+        double[] nodes = new double[controlPoints.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = controlPoints.get(i).getX();
+        }
+        Arrays.sort(nodes);
+
+        AdaptiveFlattener.flatten(curve, nodes, tolerance, buffer);
+    }
+
     @Override
     public Point2D calculatePoint(List<Point2D> points, double t) {
         // Для полинома Лагранжа t - это x координата
-        return calculatePointForX(points, t);
+        synchronizeNodes(points);
+        return new Point2D(t, interpolator.evaluate(t));
+    }
+
+    @Override
+    public FittedCurve<Point2D> fit(List<Point2D> controlPoints) {
+        if (controlPoints == null || controlPoints.size() < 2) {
+            throw new IllegalArgumentException("Need at least 2 control points");
+        }
+
+        synchronizeNodes(controlPoints);
+        return interpolator.toCurve();
     }
 
+    // Классическая форма Лагранжа, O(n^2) на точку; оставлена как эталон
     protected Point2D calculatePointForX(List<Point2D> points, double x) {
         double y = 0;
         int n = points.size();
 
         for (int i = 0; i < n; i++) {
-            double xi = points.get(i).getX();
             double yi = points.get(i).getY();
             double basis = lagrangeBasis(points, i, x);
             y += yi * basis;
@@ -62,4 +151,48 @@ public class LagrangeStrategy implements InterpolationStrategyImpl<Point2D> {
 
         return result;
     }
-}
\ No newline at end of file
+
+    // Сравнивает точки с текущими узлами и применяет минимальное изменение:
+    // одна вставка, одно удаление или одно перемещение. Иначе - полный пересчет
+    private void synchronizeNodes(List<Point2D> points) {
+        int oldSize = interpolator.size();
+        int newSize = points.size();
+
+        int prefix = 0;
+        int maxCommon = Math.min(oldSize, newSize);
+        while (prefix < maxCommon && sameNode(points.get(prefix), prefix)) {
+            prefix++;
+        }
+
+        int suffix = 0;
+        while (suffix < maxCommon - prefix
+                && sameNode(points.get(newSize - 1 - suffix), oldSize - 1 - suffix)) {
+            suffix++;
+        }
+
+        try {
+            if (newSize == oldSize && prefix == newSize) {
+                return;
+            }
+            if (newSize == oldSize + 1 && prefix + suffix == oldSize) {
+                Point2D inserted = points.get(prefix);
+                interpolator.insertNode(prefix, inserted.getX(), inserted.getY());
+            } else if (newSize == oldSize - 1 && prefix + suffix == newSize) {
+                interpolator.removeNode(prefix);
+            } else if (newSize == oldSize && prefix + suffix == newSize - 1) {
+                Point2D moved = points.get(prefix);
+                interpolator.updateNode(prefix, moved.getX(), moved.getY());
+            } else {
+                interpolator.setNodes(points);
+            }
+        } catch (IllegalArgumentException e) {
+            // Состояние могло остаться частично обновленным - начнем с нуля в следующий раз
+            interpolator.clear();
+            throw e;
+        }
+    }
+
+    private boolean sameNode(Point2D point, int index) {
+        return point.getX() == interpolator.getNodeX(index) && point.getY() == interpolator.getNodeY(index);
+    }
+}
@@ -0,0 +1,83 @@
+package main.cgvsu.com.model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
+
+// Равномерная дискретизация кривой частями в ForkJoinPool. Точки независимы,
+// поэтому диапазон индексов делится пополам, пока часть больше порога, и каждая
+// часть пишет в свой участок общего массива буфера. Меньше порога все считается
+// в вызывающем потоке тем же кодом, поэтому результат не зависит от режима.
+// Между частями по CurveCancellation.CHECK_INTERVAL точек проверяется отмена
+// вычисления, заданная в вызывающем потоке
+final class ParallelSampling {
+    static final int DEFAULT_THRESHOLD = 2048;
+
+    @FunctionalInterface
+    interface RangeSampler {
+        // Записывает точки с индексами [from, to): out[2i] = x, out[2i + 1] = y
+        void sample(int from, int to, double[] out);
+    }
+
+    private ParallelSampling() {
+    }
+
+    static void sample(int count, int threshold, RangeSampler sampler, CurveBuffer buffer) {
+        buffer.clear();
+        buffer.resize(count);
+        double[] out = buffer.getData();
+        BooleanSupplier cancelled = CurveCancellation.current();
+
+        if (count <= threshold) {
+            sampleChecked(sampler, 0, count, out, cancelled);
+        } else {
+            ForkJoinPool.commonPool().invoke(new SampleTask(sampler, out, 0, count, threshold, cancelled));
+        }
+    }
+
+    private static void sampleChecked(RangeSampler sampler, int from, int to, double[] out,
+                                      BooleanSupplier cancelled) {
+        for (int start = from; start < to; start += CurveCancellation.CHECK_INTERVAL) {
+            CurveCancellation.check(cancelled);
+            sampler.sample(start, Math.min(start + CurveCancellation.CHECK_INTERVAL, to), out);
+        }
+    }
+
+    static void checkThreshold(int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Parallel threshold must be positive");
+        }
+    }
+
+    // Задачи живут только внутри вызова sample и никогда не сериализуются
+    @SuppressWarnings("serial")
+    private static final class SampleTask extends RecursiveAction {
+        private final RangeSampler sampler;
+        private final double[] out;
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final BooleanSupplier cancelled;
+
+        SampleTask(RangeSampler sampler, double[] out, int from, int to, int threshold, BooleanSupplier cancelled) {
+            this.sampler = sampler;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                sampleChecked(sampler, from, to, out, cancelled);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new SampleTask(sampler, out, from, middle, threshold, cancelled),
+                    new SampleTask(sampler, out, middle, to, threshold, cancelled));
+        }
+    }
+}
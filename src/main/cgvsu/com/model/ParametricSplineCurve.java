@@ -0,0 +1,81 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+
+import java.util.Arrays;
+
+// Параметрический кубический сплайн: x(t) и y(t) - два сплайна по общим узлам параметра.
+// Параметр нормирован на [0, 1]
+public final class ParametricSplineCurve implements FittedCurve<Point2D> {
+    private final double[] knots;
+    private final double[] x;
+    private final double[] y;
+    private final double[] secondDerivativesX;
+    private final double[] secondDerivativesY;
+
+    // Массивы не копируются: их готовит ParametricSplineStrategy
+    ParametricSplineCurve(double[] knots, double[] x, double[] y,
+                          double[] secondDerivativesX, double[] secondDerivativesY) {
+        this.knots = knots;
+        this.x = x;
+        this.y = y;
+        this.secondDerivativesX = secondDerivativesX;
+        this.secondDerivativesY = secondDerivativesY;
+    }
+
+    @Override
+    public Point2D evaluate(double t) {
+        int i = findSegment(t);
+        double u = clampToSegment(t, i);
+        return new Point2D(coordinate(x, secondDerivativesX, i, u), coordinate(y, secondDerivativesY, i, u));
+    }
+
+    // Вне диапазона параметра возвращается ближайший конец
+    @Override
+    public void evaluate(double t, CurveSink sink) {
+        int i = findSegment(t);
+        double u = clampToSegment(t, i);
+        sink.accept(coordinate(x, secondDerivativesX, i, u), coordinate(y, secondDerivativesY, i, u));
+    }
+
+    @Override
+    public double getStartParameter() {
+        return knots[0];
+    }
+
+    @Override
+    public double getEndParameter() {
+        return knots[knots.length - 1];
+    }
+
+    // Для замкнутой кривой последний узел повторяет первый
+    public int getKnotCount() {
+        return knots.length;
+    }
+
+    public double[] getKnots() {
+        return knots.clone();
+    }
+
+    // Бинарный поиск сегмента [t_i, t_{i+1}], содержащего t; вне диапазона - крайний сегмент
+    int findSegment(double t) {
+        int index = Arrays.binarySearch(knots, t);
+        if (index >= 0) {
+            return Math.min(index, knots.length - 2);
+        }
+        return Math.max(0, Math.min(-index - 2, knots.length - 2));
+    }
+
+    private double clampToSegment(double t, int i) {
+        return Math.max(knots[i], Math.min(knots[i + 1], t));
+    }
+
+    // Значение сплайна по значениям values и вторым производным m на сегменте i
+    private double coordinate(double[] values, double[] m, int i, double t) {
+        double h = knots[i + 1] - knots[i];
+        double a = (knots[i + 1] - t) / h;
+        double b = (t - knots[i]) / h;
+        return a * values[i] + b * values[i + 1]
+                + ((a * a * a - a) * m[i] + (b * b * b - b) * m[i + 1]) * (h * h) / 6.0;
+    }
+}
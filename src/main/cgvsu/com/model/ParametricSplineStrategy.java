@@ -0,0 +1,150 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Параметрический кубический сплайн: точки не сортируются и X может повторяться, поэтому
+// подходит для произвольных (в том числе самопересекающихся) фигур. Параметр узла растет
+// на расстояние до предыдущей точки в степени Parameterization, совпадающие подряд точки
+// пропускаются. Кривая подгоняется один раз на набор точек и переиспользуется, пока
+// точки и настройки не изменятся. Не потокобезопасен
+public class ParametricSplineStrategy implements InterpolationStrategyImpl<Point2D> {
+
+    // CHORD_LENGTH - по длине хорды; CENTRIPETAL - по корню из длины хорды,
+    // без петель и заострений на неравномерно расставленных точках
+    public enum Parameterization {
+        CHORD_LENGTH(1.0),
+        CENTRIPETAL(0.5);
+
+        private final double exponent;
+
+        Parameterization(double exponent) {
+            this.exponent = exponent;
+        }
+
+        double knotDistance(double dx, double dy) {
+            return Math.pow(Math.hypot(dx, dy), exponent);
+        }
+    }
+
+    private Parameterization parameterization = Parameterization.CHORD_LENGTH;
+    // Замкнутая кривая: после последней точки сплайн возвращается в первую (периодическое условие)
+    private boolean closed;
+
+    private final CubicSplineSolver splineSolver = new CubicSplineSolver();
+
+    private final FitCache<ParametricSplineCurve> fitCache = new FitCache<>();
+
+    @Override
+    public List<Point2D> calculate(List<Point2D> controlPoints, int segments) {
+        CurveBuffer buffer = new CurveBuffer();
+        calculate(controlPoints, segments, buffer);
+        return buffer.toPointList();
+    }
+
+    @Override
+    public void calculate(List<Point2D> controlPoints, int segments, CurveBuffer buffer) {
+        fit(controlPoints).sample(segments, buffer);
+    }
+
+    @Override
+    public void calculateAdaptive(List<Point2D> controlPoints, double tolerance, CurveBuffer buffer) {
+        ParametricSplineCurve curve = (ParametricSplineCurve) fit(controlPoints);
+        AdaptiveFlattener.flatten(curve, curve.getKnots(), tolerance, buffer);
+    }
+
+    // t от 0 до 1 вдоль кривой
+    @Override
+    public Point2D calculatePoint(List<Point2D> points, double t) {
+        return fit(points).evaluate(t);
+    }
+
+    @Override
+    public FittedCurve<Point2D> fit(List<Point2D> controlPoints) {
+        if (controlPoints == null || controlPoints.size() < 2) {
+            throw new IllegalArgumentException("Need at least 2 control points");
+        }
+        ParametricSplineCurve curve = fitCache.get(controlPoints);
+        if (curve == null) {
+            curve = fitCurve(controlPoints);
+            fitCache.put(controlPoints, curve);
+        }
+        return curve;
+    }
+
+    public Parameterization getParameterization() {
+        return parameterization;
+    }
+
+    public void setParameterization(Parameterization parameterization) {
+        if (parameterization == null) {
+            throw new IllegalArgumentException("Parameterization must not be null");
+        }
+        if (this.parameterization != parameterization) {
+            this.parameterization = parameterization;
+            fitCache.invalidate();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void setClosed(boolean closed) {
+        if (this.closed != closed) {
+            this.closed = closed;
+            fitCache.invalidate();
+        }
+    }
+
+    private ParametricSplineCurve fitCurve(List<Point2D> points) {
+        int count = points.size();
+        double[] x = new double[count + 1];
+        double[] y = new double[count + 1];
+
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            Point2D point = points.get(i);
+            if (n > 0 && point.getX() == x[n - 1] && point.getY() == y[n - 1]) {
+                continue;
+            }
+            x[n] = point.getX();
+            y[n] = point.getY();
+            n++;
+        }
+        // Последняя точка, совпадающая с первой, уже замыкает кривую
+        if (closed && n > 2 && x[n - 1] == x[0] && y[n - 1] == y[0]) {
+            n--;
+        }
+        if (n < 2) {
+            throw new IllegalArgumentException("Need at least 2 distinct control points");
+        }
+        if (closed) {
+            x[n] = x[0];
+            y[n] = y[0];
+            n++;
+        }
+
+        double[] knots = new double[n];
+        for (int i = 1; i < n; i++) {
+            knots[i] = knots[i - 1] + parameterization.knotDistance(x[i] - x[i - 1], y[i] - y[i - 1]);
+        }
+        double length = knots[n - 1];
+        for (int i = 1; i < n; i++) {
+            knots[i] /= length;
+        }
+
+        CubicSplineStrategy.BoundaryCondition condition = closed
+                ? CubicSplineStrategy.BoundaryCondition.PERIODIC
+                : CubicSplineStrategy.BoundaryCondition.NATURAL;
+        double[] secondDerivativesX = new double[n];
+        double[] secondDerivativesY = new double[n];
+        splineSolver.solve(knots, x, n, condition, 0, 0, secondDerivativesX);
+        splineSolver.solve(knots, y, n, condition, 0, 0, secondDerivativesY);
+
+        return new ParametricSplineCurve(knots, Arrays.copyOf(x, n), Arrays.copyOf(y, n),
+                secondDerivativesX, secondDerivativesY);
+    }
+}
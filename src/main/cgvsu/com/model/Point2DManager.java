@@ -1,55 +1,100 @@
 package main.cgvsu.com.model;
 
 import javafx.geometry.Point2D;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
 public class Point2DManager implements PointManagerImpl<Point2D> {
-    private final List<Point2D> points;
+    // Размер ячейки сетки порядка радиуса поиска, чтобы запрос затрагивал несколько ячеек
+    private static final double DEFAULT_CELL_SIZE = 32.0;
+
+    private final ArrayList<Point2D> points;
+    private final SpatialGridIndex spatialIndex;
+
+    // Снимок создается не чаще одного раза на версию и разделяется всеми читателями
+    private long version;
+    private PointSnapshot<Point2D> snapshot = new PointSnapshot<>(0, List.of());
 
     public Point2DManager() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    public Point2DManager(double cellSize) {
         this.points = new ArrayList<>();
+        this.spatialIndex = new SpatialGridIndex(cellSize);
     }
 
     @Override
     public void addPoint(Point2D point) {
         points.add(point);
+        spatialIndex.add(points.size() - 1, point.getX(), point.getY());
+        version++;
     }
 
     @Override
     public void insertPoint(int index, Point2D point) {
         if (index >= 0 && index <= points.size()) {
             points.add(index, point);
+            spatialIndex.shiftIndices(index, 1);
+            spatialIndex.add(index, point.getX(), point.getY());
+            version++;
         }
     }
 
     @Override
     public void updatePoint(int index, Point2D newPoint) {
         if (index >= 0 && index < points.size()) {
-            points.set(index, newPoint);
+            Point2D oldPoint = points.set(index, newPoint);
+            if (!oldPoint.equals(newPoint)) {
+                spatialIndex.move(index, oldPoint.getX(), oldPoint.getY(), newPoint.getX(), newPoint.getY());
+                version++;
+            }
         }
     }
 
     @Override
     public void removePoint(Point2D point) {
-        points.remove(point);
+        removePoint(points.indexOf(point));
     }
 
     @Override
     public void removePoint(int index) {
         if (index >= 0 && index < points.size()) {
-            points.remove(index);
+            Point2D removed = points.remove(index);
+            spatialIndex.remove(index, removed.getX(), removed.getY());
+            spatialIndex.shiftIndices(index + 1, -1);
+            version++;
         }
     }
 
     @Override
     public void clearPoints() {
-        points.clear();
+        if (!points.isEmpty()) {
+            points.clear();
+            spatialIndex.clear();
+            version++;
+        }
     }
 
     @Override
     public List<Point2D> getPoints() {
-        return new ArrayList<>(points);
+        return getSnapshot().points();
+    }
+
+    @Override
+    public PointSnapshot<Point2D> getSnapshot() {
+        if (snapshot.version() != version) {
+            snapshot = new PointSnapshot<>(version, points);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
     }
 
     @Override
@@ -64,36 +109,43 @@ public class Point2DManager implements PointManagerImpl<Point2D> {
 
     @Override
     public Point2D findNearestPoint(Point2D target, double radius) {
-        Point2D nearest = null;
-        double minDistance = Double.MAX_VALUE;
-
-        for (Point2D point : points) {
-            double distance = point.distance(target);
-            if (distance <= radius && distance < minDistance) {
-                minDistance = distance;
-                nearest = point;
-            }
-        }
-        return nearest;
+        int index = findNearestPointIndex(target, radius);
+        return index == -1 ? null : points.get(index);
     }
 
     @Override
     public int findNearestPointIndex(Point2D target, double radius) {
-        int nearestIndex = -1;
-        double minDistance = Double.MAX_VALUE;
-
-        for (int i = 0; i < points.size(); i++) {
-            double distance = points.get(i).distance(target);
-            if (distance <= radius && distance < minDistance) {
-                minDistance = distance;
-                nearestIndex = i;
-            }
-        }
-        return nearestIndex;
+        return spatialIndex.findNearest(target.getX(), target.getY(), radius, points);
     }
 
     @Override
     public boolean containsPoint(Point2D point) {
-        return points.contains(point);
+        int index = spatialIndex.findNearest(point.getX(), point.getY(), 0, points);
+        return index != -1 && points.get(index).equals(point);
+    }
+
+    @Override
+    public void savePoints(Path file) throws IOException {
+        CurveBuffer buffer = new CurveBuffer(points.size());
+        for (Point2D point : points) {
+            buffer.add(point.getX(), point.getY());
+        }
+        CurveFile.write(file, buffer);
+    }
+
+    // Файл читается целиком до изменения набора, поэтому при ошибке точки остаются прежними
+    @Override
+    public void loadPoints(Path file) throws IOException {
+        CurveBuffer buffer = CurveFile.read(file);
+
+        points.clear();
+        spatialIndex.clear();
+        points.ensureCapacity(buffer.size());
+        for (int i = 0; i < buffer.size(); i++) {
+            Point2D point = new Point2D(buffer.getX(i), buffer.getY(i));
+            points.add(point);
+            spatialIndex.add(i, point.getX(), point.getY());
+        }
+        version++;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package main.cgvsu.com.model;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 public interface PointManagerImpl<T> {
@@ -10,9 +12,15 @@ public interface PointManagerImpl<T> {
     void removePoint(int index);
     void clearPoints();
     List<T> getPoints();
+    PointSnapshot<T> getSnapshot();
+    long getVersion();
     int getPointCount();
     boolean hasEnoughPointsForCurve();
     T findNearestPoint(T target, double radius);
     int findNearestPointIndex(T target, double radius);
     boolean containsPoint(T point);
+
+    // Сохранение и загрузка в двоичном формате CurveFile
+    void savePoints(Path file) throws IOException;
+    void loadPoints(Path file) throws IOException;
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package main.cgvsu.com.model;
+
+import java.util.List;
+
+// Неизменяемый снимок набора точек. Версия растет при каждом изменении набора,
+// поэтому совпадение версий означает совпадение точек
+public record PointSnapshot<T>(long version, List<T> points) {
+
+    public PointSnapshot {
+        points = List.copyOf(points);
+    }
+
+    public int size() {
+        return points.size();
+    }
+}
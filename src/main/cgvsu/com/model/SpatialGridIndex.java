@@ -0,0 +1,250 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Равномерная сетка индексов точек для поиска ближайшей точки в радиусе.
+// Ячейка хранит индексы точек из списка Point2DManager; при вставке и удалении
+// в середину списка индексы сдвигаются (O(n), как и сам ArrayList)
+class SpatialGridIndex {
+    private final double cellSize;
+    // Ключ ячейки - long без упаковки в Long, поэтому поиск не создает объектов
+    private final CellTable cells = new CellTable();
+    private int size;
+
+    SpatialGridIndex(double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSize = cellSize;
+    }
+
+    void add(int index, double x, double y) {
+        cells.getOrCreate(cellKey(cellOf(x), cellOf(y))).add(index);
+        size++;
+    }
+
+    void remove(int index, double x, double y) {
+        long key = cellKey(cellOf(x), cellOf(y));
+        IndexList list = cells.get(key);
+        if (list != null && list.remove(index)) {
+            size--;
+            if (list.size == 0) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    void move(int index, double oldX, double oldY, double newX, double newY) {
+        if (cellOf(oldX) == cellOf(newX) && cellOf(oldY) == cellOf(newY)) {
+            return;
+        }
+        remove(index, oldX, oldY);
+        add(index, newX, newY);
+    }
+
+    // Все индексы >= fromIndex сдвигаются на delta
+    void shiftIndices(int fromIndex, int delta) {
+        for (IndexList list : cells.lists) {
+            if (list == null) {
+                continue;
+            }
+            for (int i = 0; i < list.size; i++) {
+                if (list.values[i] >= fromIndex) {
+                    list.values[i] += delta;
+                }
+            }
+        }
+    }
+
+    void clear() {
+        cells.clear();
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Возвращает индекс ближайшей точки не дальше radius или -1.
+    // При равных расстояниях выбирается меньший индекс, как при линейном поиске
+    int findNearest(double x, double y, double radius, List<Point2D> points) {
+        // При огромном радиусе обход ячеек дороже обхода точек
+        double cellsToVisit = (Math.floor((x + radius) / cellSize) - Math.floor((x - radius) / cellSize) + 1)
+                * (Math.floor((y + radius) / cellSize) - Math.floor((y - radius) / cellSize) + 1);
+        if (!(cellsToVisit <= Math.max(size, 1))) {
+            return findNearestLinear(x, y, radius, points);
+        }
+
+        long minCellX = cellOf(x - radius);
+        long maxCellX = cellOf(x + radius);
+        long minCellY = cellOf(y - radius);
+        long maxCellY = cellOf(y + radius);
+
+        int nearest = -1;
+        double minDistance = Double.MAX_VALUE;
+
+        for (long cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (long cellY = minCellY; cellY <= maxCellY; cellY++) {
+                IndexList list = cells.get(cellKey(cellX, cellY));
+                if (list == null) {
+                    continue;
+                }
+                for (int i = 0; i < list.size; i++) {
+                    int index = list.values[i];
+                    double distance = points.get(index).distance(x, y);
+                    if (distance <= radius && (distance < minDistance || (distance == minDistance && index < nearest))) {
+                        minDistance = distance;
+                        nearest = index;
+                    }
+                }
+            }
+        }
+
+        return nearest;
+    }
+
+    private int findNearestLinear(double x, double y, double radius, List<Point2D> points) {
+        int nearest = -1;
+        double minDistance = Double.MAX_VALUE;
+
+        for (int index = 0; index < points.size(); index++) {
+            double distance = points.get(index).distance(x, y);
+            if (distance <= radius && distance < minDistance) {
+                minDistance = distance;
+                nearest = index;
+            }
+        }
+
+        return nearest;
+    }
+
+    private long cellOf(double coordinate) {
+        return (long) Math.floor(coordinate / cellSize);
+    }
+
+    private static long cellKey(long cellX, long cellY) {
+        return (cellX << 32) ^ (cellY & 0xffffffffL);
+    }
+
+    // Таблица с открытой адресацией (линейное пробирование) от ключа ячейки к списку индексов.
+    // Пустой слот - null в lists; при удалении следующие элементы цепочки сдвигаются назад,
+    // поэтому удаленные слоты не накапливаются
+    static final class CellTable {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private IndexList[] lists = new IndexList[INITIAL_CAPACITY];
+        private int size;
+
+        IndexList get(long key) {
+            int mask = lists.length - 1;
+            for (int slot = slotOf(key, mask); lists[slot] != null; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return lists[slot];
+                }
+            }
+            return null;
+        }
+
+        IndexList getOrCreate(long key) {
+            IndexList list = get(key);
+            if (list != null) {
+                return list;
+            }
+            // Заполненность не выше половины, чтобы цепочки пробирования оставались короткими
+            if ((size + 1) * 2 > lists.length) {
+                resize(lists.length * 2);
+            }
+            list = new IndexList();
+            insert(key, list);
+            size++;
+            return list;
+        }
+
+        void remove(long key) {
+            int mask = lists.length - 1;
+            int hole = slotOf(key, mask);
+            while (lists[hole] != null && keys[hole] != key) {
+                hole = (hole + 1) & mask;
+            }
+            if (lists[hole] == null) {
+                return;
+            }
+
+            // Элемент переносится в освободившийся слот, если тот лежит между
+            // его исходным слотом и текущим положением
+            for (int next = (hole + 1) & mask; lists[next] != null; next = (next + 1) & mask) {
+                int home = slotOf(keys[next], mask);
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    lists[hole] = lists[next];
+                    hole = next;
+                }
+            }
+            lists[hole] = null;
+            size--;
+        }
+
+        void clear() {
+            Arrays.fill(lists, null);
+            size = 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void insert(long key, IndexList list) {
+            int mask = lists.length - 1;
+            int slot = slotOf(key, mask);
+            while (lists[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            lists[slot] = list;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            IndexList[] oldLists = lists;
+            keys = new long[capacity];
+            lists = new IndexList[capacity];
+            for (int i = 0; i < oldLists.length; i++) {
+                if (oldLists[i] != null) {
+                    insert(oldKeys[i], oldLists[i]);
+                }
+            }
+        }
+
+        // Перемешивание битов: соседние ячейки не должны попадать в соседние слоты
+        private static int slotOf(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+
+    static final class IndexList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        boolean remove(int value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    values[i] = values[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
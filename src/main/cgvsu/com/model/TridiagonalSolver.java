@@ -0,0 +1,111 @@
+package main.cgvsu.com.model;
+
+// Решение трехдиагональных систем методом прогонки (Томаса) за O(n).
+// Строка i: lower[i] * x[i-1] + diagonal[i] * x[i] + upper[i] * x[i+1] = rhs[i].
+// В циклической системе lower[0] - коэффициент при x[n-1], upper[n-1] - при x[0]
+// (угловые элементы), она сводится к двум обычным по формуле Шермана-Моррисона.
+// Рабочие массивы только растут, поэтому повторные решения того же размера не создают
+// объектов. Входные массивы не изменяются. Не потокобезопасен
+public final class TridiagonalSolver {
+    private double[] modifiedUpper = new double[0];
+    private double[] cyclicDiagonal = new double[0];
+    private double[] correction = new double[0];
+    private double[] correctionSolution = new double[0];
+
+    // Прогонка без выбора ведущего элемента: матрица должна быть с диагональным
+    // преобладанием (как у систем сплайнов), иначе деление на ноль не исключено
+    public void solve(double[] lower, double[] diagonal, double[] upper, double[] rhs, int n, double[] solution) {
+        solve(lower, diagonal, upper, rhs, 0, n, solution);
+    }
+
+    // Система из строк offset..offset+n-1 тех же массивов; решение пишется по тем же индексам
+    public void solve(double[] lower, double[] diagonal, double[] upper, double[] rhs, int offset, int n,
+                      double[] solution) {
+        checkSize(n);
+        ensureCapacity(offset + n);
+        double[] c = modifiedUpper;
+        int end = offset + n;
+
+        double pivot = diagonal[offset];
+        c[offset] = upper[offset] / pivot;
+        solution[offset] = rhs[offset] / pivot;
+        for (int i = offset + 1; i < end; i++) {
+            pivot = diagonal[i] - lower[i] * c[i - 1];
+            c[i] = upper[i] / pivot;
+            solution[i] = (rhs[i] - lower[i] * solution[i - 1]) / pivot;
+        }
+
+        for (int i = end - 2; i >= offset; i--) {
+            solution[i] -= c[i] * solution[i + 1];
+        }
+    }
+
+    public void solveCyclic(double[] lower, double[] diagonal, double[] upper, double[] rhs, int n, double[] solution) {
+        checkSize(n);
+        if (n == 1) {
+            solution[0] = rhs[0] / (lower[0] + diagonal[0] + upper[0]);
+            return;
+        }
+        if (n == 2) {
+            // Угловые элементы совпадают с внедиагональными, система решается напрямую
+            double a = diagonal[0];
+            double b = upper[0] + lower[0];
+            double c = lower[1] + upper[1];
+            double d = diagonal[1];
+            double determinant = a * d - b * c;
+            double x0 = (rhs[0] * d - b * rhs[1]) / determinant;
+            solution[1] = (a * rhs[1] - c * rhs[0]) / determinant;
+            solution[0] = x0;
+            return;
+        }
+
+        ensureCapacity(n);
+        double alpha = lower[0];
+        double beta = upper[n - 1];
+        // Сдвиг диагонали выбирается так, чтобы не потерять диагональное преобладание
+        double gamma = -diagonal[0];
+
+        double[] modified = cyclicDiagonal;
+        System.arraycopy(diagonal, 0, modified, 0, n);
+        modified[0] = diagonal[0] - gamma;
+        modified[n - 1] = diagonal[n - 1] - alpha * beta / gamma;
+
+        // Матрица = модифицированная + u * v^T, где u = (gamma, 0, ..., 0, beta), v = (1, 0, ..., 0, alpha / gamma)
+        double[] u = correction;
+        u[0] = gamma;
+        for (int i = 1; i < n - 1; i++) {
+            u[i] = 0;
+        }
+        u[n - 1] = beta;
+
+        solve(lower, modified, upper, rhs, n, solution);
+        double[] z = correctionSolution;
+        solve(lower, modified, upper, u, n, z);
+
+        double factor = (solution[0] + alpha * solution[n - 1] / gamma)
+                / (1 + z[0] + alpha * z[n - 1] / gamma);
+        for (int i = 0; i < n; i++) {
+            solution[i] -= factor * z[i];
+        }
+    }
+
+    // Текущий размер рабочих массивов
+    int getCapacity() {
+        return modifiedUpper.length;
+    }
+
+    private void ensureCapacity(int n) {
+        if (modifiedUpper.length < n) {
+            modifiedUpper = new double[n];
+            cyclicDiagonal = new double[n];
+            correction = new double[n];
+            correctionSolution = new double[n];
+        }
+    }
+
+    private static void checkSize(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("System size must be positive");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package main.cgvsu.com.view;
+
+// Подготовка ломаной к отрисовке: звенья, целиком лежащие по одну сторону от области
+// просмотра, отбрасываются (путь в этом месте разрывается), а вершины, попавшие в тот же
+// пиксель, что и предыдущая выведенная, пропускаются. Последняя вершина каждого видимого
+// участка выводится всегда, поэтому концы кривой не смещаются.
+// Стоимость отрисовки зависит от видимой части кривой, а не от числа вершин
+final class CurveDecimator {
+
+    interface PathSink {
+        void moveTo(double x, double y);
+
+        void lineTo(double x, double y);
+    }
+
+    private static final int INSIDE = 0;
+    private static final int LEFT = 1;
+    private static final int RIGHT = 1 << 1;
+    private static final int TOP = 1 << 2;
+    private static final int BOTTOM = 1 << 3;
+
+    private CurveDecimator() {
+    }
+
+    // data - чередующиеся x, y (как в CurveBuffer); возвращает число выведенных вершин
+    static int trace(double[] data, int size, double minX, double minY, double maxX, double maxY, PathSink sink) {
+        return trace(data, size, 1, 0, 0, minX, minY, maxX, maxY, sink);
+    }
+
+    // Вершины переводятся в экранные координаты (x * scale + translate) по ходу обхода,
+    // область просмотра и пиксели задаются в экранных координатах
+    static int trace(double[] data, int size, double scale, double translateX, double translateY,
+                     double minX, double minY, double maxX, double maxY, PathSink sink) {
+        int emitted = 0;
+        boolean penDown = false;
+        double x1 = size > 0 ? data[0] * scale + translateX : 0;
+        double y1 = size > 0 ? data[1] * scale + translateY : 0;
+        long lastPixelX = 0;
+        long lastPixelY = 0;
+
+        int code1 = outcode(x1, y1, minX, minY, maxX, maxY);
+        for (int i = 0; i < size - 1; i++) {
+            int code0 = code1;
+            double x0 = x1;
+            double y0 = y1;
+            x1 = data[i * 2 + 2] * scale + translateX;
+            y1 = data[i * 2 + 3] * scale + translateY;
+            code1 = outcode(x1, y1, minX, minY, maxX, maxY);
+
+            if ((code0 & code1) != 0) {
+                penDown = false;
+                continue;
+            }
+
+            if (!penDown) {
+                sink.moveTo(x0, y0);
+                lastPixelX = pixel(x0);
+                lastPixelY = pixel(y0);
+                penDown = true;
+                emitted++;
+            }
+
+            long pixelX = pixel(x1);
+            long pixelY = pixel(y1);
+            if (pixelX != lastPixelX || pixelY != lastPixelY
+                    || endsVisibleRun(data, size, i + 1, code1, scale, translateX, translateY, minX, minY, maxX, maxY)) {
+                sink.lineTo(x1, y1);
+                lastPixelX = pixelX;
+                lastPixelY = pixelY;
+                emitted++;
+            }
+        }
+        return emitted;
+    }
+
+    // Вершина index - последняя перед отброшенным звеном или концом кривой
+    private static boolean endsVisibleRun(double[] data, int size, int index, int code,
+                                          double scale, double translateX, double translateY,
+                                          double minX, double minY, double maxX, double maxY) {
+        if (index == size - 1) {
+            return true;
+        }
+        int nextCode = outcode(data[index * 2 + 2] * scale + translateX, data[index * 2 + 3] * scale + translateY,
+                minX, minY, maxX, maxY);
+        return (code & nextCode) != 0;
+    }
+
+    static int outcode(double x, double y, double minX, double minY, double maxX, double maxY) {
+        int code = INSIDE;
+        if (x < minX) {
+            code |= LEFT;
+        } else if (x > maxX) {
+            code |= RIGHT;
+        }
+        if (y < minY) {
+            code |= TOP;
+        } else if (y > maxY) {
+            code |= BOTTOM;
+        }
+        return code;
+    }
+
+    private static long pixel(double coordinate) {
+        return (long) Math.floor(coordinate);
+    }
+}
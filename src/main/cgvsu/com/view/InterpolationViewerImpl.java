@@ -1,13 +1,21 @@
 package main.cgvsu.com.view;
 
 import javafx.scene.canvas.Canvas;
+import main.cgvsu.com.model.CurveBuffer;
 
 import java.util.List;
 
 public interface InterpolationViewerImpl<T> {
+    // Преобразование мировых координат точек и кривых в экранные
+    void setViewport(Viewport viewport);
     void drawControlPoints(Canvas canvas, List<T> points, int draggedPointIndex);
     void drawControlPolygon(Canvas canvas, List<T> points);
     void drawCurve(Canvas canvas, List<T> curvePoints);
+    void drawCurve(Canvas canvas, CurveBuffer curve);
+    // Кривая режима сравнения: цвет выбирается по номеру из палитры
+    void drawCurve(Canvas canvas, CurveBuffer curve, int colorIndex);
+    // Подписи режима сравнения в цветах палитры, в том же порядке
+    void drawLegend(Canvas canvas, List<String> entries);
     void clearCanvas(Canvas canvas);
     void drawErrorText(Canvas canvas, String message);
     void drawDebugInfo(Canvas canvas, String debugInfo);
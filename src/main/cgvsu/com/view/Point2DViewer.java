@@ -4,6 +4,8 @@ import javafx.geometry.Point2D;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
+import main.cgvsu.com.model.CurveBuffer;
+
 import java.util.List;
 
 public class Point2DViewer implements InterpolationViewerImpl<Point2D> {
@@ -18,15 +20,49 @@ public class Point2DViewer implements InterpolationViewerImpl<Point2D> {
     private static final Color TEXT_COLOR = Color.LIGHTSLATEGREY;
     private static final Color ERROR_COLOR = Color.RED;
     private static final Color DEBUG_COLOR = Color.BLACK;
+    private static final Color[] OVERLAY_COLORS = {
+            Color.BLUE, Color.DARKORANGE, Color.FORESTGREEN, Color.MEDIUMVIOLETRED, Color.TEAL
+    };
+    private static final double LEGEND_WIDTH = 260;
+    // Запас за краем холста: видимая часть точки или подписи рядом с краем не теряется
+    private static final double POINT_CULL_MARGIN = 40;
+    private static final double CURVE_CULL_MARGIN = 2;
+    // При большем числе видимых точек подписи сливаются и только тратят время
+    static final int MAX_LABELED_POINTS = 150;
+
+    // Точки и кривые передаются в мировых координатах, подписи и панели - в экранных
+    private Viewport viewport = new Viewport();
+
+    @Override
+    public void setViewport(Viewport viewport) {
+        this.viewport = viewport;
+    }
 
     @Override
     public void drawControlPoints(Canvas canvas, List<Point2D> points, int draggedPointIndex) {
         GraphicsContext gc = canvas.getGraphicsContext2D();
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+
+        int visibleCount = 0;
+        for (Point2D point : points) {
+            if (isPointVisible(viewport.toScreenX(point.getX()), viewport.toScreenY(point.getY()), width, height)) {
+                visibleCount++;
+            }
+        }
+        boolean labeled = visibleCount <= MAX_LABELED_POINTS;
 
         for (int i = 0; i < points.size(); i++) {
             Point2D point = points.get(i);
-            drawPoint(gc, point, i, draggedPointIndex);
-            drawPointLabel(gc, point, i);
+            double x = viewport.toScreenX(point.getX());
+            double y = viewport.toScreenY(point.getY());
+            if (!isPointVisible(x, y, width, height)) {
+                continue;
+            }
+            drawPoint(gc, x, y, i, draggedPointIndex);
+            if (labeled || i == draggedPointIndex) {
+                drawPointLabel(gc, x, y, i);
+            }
         }
     }
 
@@ -41,7 +77,8 @@ public class Point2DViewer implements InterpolationViewerImpl<Point2D> {
         for (int i = 1; i < points.size(); i++) {
             Point2D p1 = points.get(i - 1);
             Point2D p2 = points.get(i);
-            gc.strokeLine(p1.getX(), p1.getY(), p2.getX(), p2.getY());
+            gc.strokeLine(viewport.toScreenX(p1.getX()), viewport.toScreenY(p1.getY()),
+                    viewport.toScreenX(p2.getX()), viewport.toScreenY(p2.getY()));
         }
     }
 
@@ -54,16 +91,42 @@ public class Point2DViewer implements InterpolationViewerImpl<Point2D> {
         gc.setLineWidth(2);
 
         gc.beginPath();
-        gc.moveTo(curvePoints.get(0).getX(), curvePoints.get(0).getY());
+        gc.moveTo(viewport.toScreenX(curvePoints.get(0).getX()), viewport.toScreenY(curvePoints.get(0).getY()));
 
         for (int i = 1; i < curvePoints.size(); i++) {
             Point2D point = curvePoints.get(i);
-            gc.lineTo(point.getX(), point.getY());
+            gc.lineTo(viewport.toScreenX(point.getX()), viewport.toScreenY(point.getY()));
         }
 
         gc.stroke();
     }
 
+    @Override
+    public void drawCurve(Canvas canvas, CurveBuffer curve) {
+        strokeCurve(canvas, curve, CURVE_COLOR);
+    }
+
+    @Override
+    public void drawCurve(Canvas canvas, CurveBuffer curve, int colorIndex) {
+        strokeCurve(canvas, curve, overlayColor(colorIndex));
+    }
+
+    @Override
+    public void drawLegend(Canvas canvas, List<String> entries) {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double x = canvas.getWidth() - LEGEND_WIDTH;
+        gc.setLineWidth(3);
+
+        for (int i = 0; i < entries.size(); i++) {
+            double y = 20 + i * 20;
+            Color color = overlayColor(i);
+            gc.setStroke(color);
+            gc.strokeLine(x, y - 4, x + 20, y - 4);
+            gc.setFill(color);
+            gc.fillText(entries.get(i), x + 28, y);
+        }
+    }
+
     @Override
     public void clearCanvas(Canvas canvas) {
         GraphicsContext gc = canvas.getGraphicsContext2D();
@@ -88,21 +151,56 @@ public class Point2DViewer implements InterpolationViewerImpl<Point2D> {
         }
     }
 
-    private void drawPoint(GraphicsContext gc, Point2D point, int index, int draggedPointIndex) {
+    private void drawPoint(GraphicsContext gc, double x, double y, int index, int draggedPointIndex) {
         double radius = draggedPointIndex == index ? DRAGGED_POINT_RADIUS : POINT_RADIUS;
         Color fillColor = draggedPointIndex == index ? DRAGGED_POINT_COLOR : POINT_COLOR;
         Color strokeColor = draggedPointIndex == index ? DRAGGED_POINT_STROKE_COLOR : POINT_STROKE_COLOR;
 
         gc.setFill(fillColor);
-        gc.fillOval(point.getX() - radius, point.getY() - radius, radius * 2, radius * 2);
+        gc.fillOval(x - radius, y - radius, radius * 2, radius * 2);
 
         gc.setStroke(strokeColor);
         gc.setLineWidth(1);
-        gc.strokeOval(point.getX() - radius, point.getY() - radius, radius * 2, radius * 2);
+        gc.strokeOval(x - radius, y - radius, radius * 2, radius * 2);
     }
 
-    private void drawPointLabel(GraphicsContext gc, Point2D point, int index) {
+    private void drawPointLabel(GraphicsContext gc, double x, double y, int index) {
         gc.setFill(TEXT_COLOR);
-        gc.fillText(String.valueOf(index + 1), point.getX() + 8, point.getY() - 8);
+        gc.fillText(String.valueOf(index + 1), x + 8, y - 8);
+    }
+
+    private static Color overlayColor(int index) {
+        return OVERLAY_COLORS[index % OVERLAY_COLORS.length];
+    }
+
+    private void strokeCurve(Canvas canvas, CurveBuffer curve, Color color) {
+        if (curve.size() < 2) return;
+
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setStroke(color);
+        gc.setLineWidth(2);
+
+        gc.beginPath();
+        CurveDecimator.trace(curve.getData(), curve.size(),
+                viewport.getScale(), viewport.getTranslateX(), viewport.getTranslateY(),
+                -CURVE_CULL_MARGIN, -CURVE_CULL_MARGIN,
+                canvas.getWidth() + CURVE_CULL_MARGIN, canvas.getHeight() + CURVE_CULL_MARGIN,
+                new CurveDecimator.PathSink() {
+                    @Override
+                    public void moveTo(double x, double y) {
+                        gc.moveTo(x, y);
+                    }
+
+                    @Override
+                    public void lineTo(double x, double y) {
+                        gc.lineTo(x, y);
+                    }
+                });
+        gc.stroke();
+    }
+
+    private static boolean isPointVisible(double x, double y, double width, double height) {
+        return x >= -POINT_CULL_MARGIN && x <= width + POINT_CULL_MARGIN
+                && y >= -POINT_CULL_MARGIN && y <= height + POINT_CULL_MARGIN;
     }
-}
\ No newline at end of file
+}
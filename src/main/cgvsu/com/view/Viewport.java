@@ -0,0 +1,82 @@
+package main.cgvsu.com.view;
+
+import javafx.geometry.Point2D;
+
+// Преобразование мировых координат точек в экранные: screen = world * scale + translate.
+// Точки и кривые хранятся в мировых координатах; при единичном масштабе и нулевом
+// сдвиге они совпадают с пикселями холста, как было до появления панорамирования.
+// Используется из потока JavaFX
+public class Viewport {
+    public static final double MIN_SCALE = 0.01;
+    public static final double MAX_SCALE = 100;
+    // Масштабы внутри одной корзины (четверть октавы) дискретизируются с одним допуском
+    static final int ZOOM_BUCKETS_PER_OCTAVE = 4;
+
+    private double scale = 1;
+    private double translateX;
+    private double translateY;
+
+    public double toScreenX(double worldX) {
+        return worldX * scale + translateX;
+    }
+
+    public double toScreenY(double worldY) {
+        return worldY * scale + translateY;
+    }
+
+    public Point2D toWorld(double screenX, double screenY) {
+        return new Point2D((screenX - translateX) / scale, (screenY - translateY) / scale);
+    }
+
+    // Расстояние в пикселях экрана в мировых единицах
+    public double toWorldDistance(double screenDistance) {
+        return screenDistance / scale;
+    }
+
+    public void pan(double screenDeltaX, double screenDeltaY) {
+        translateX += screenDeltaX;
+        translateY += screenDeltaY;
+    }
+
+    // Масштабирование вокруг точки экрана: мировая точка под курсором остается на месте
+    public void zoomAt(double screenX, double screenY, double factor) {
+        if (!(factor > 0)) {
+            throw new IllegalArgumentException("Zoom factor must be positive");
+        }
+        double newScale = Math.max(MIN_SCALE, Math.min(MAX_SCALE, scale * factor));
+        double ratio = newScale / scale;
+        translateX = screenX - (screenX - translateX) * ratio;
+        translateY = screenY - (screenY - translateY) * ratio;
+        scale = newScale;
+    }
+
+    public void reset() {
+        scale = 1;
+        translateX = 0;
+        translateY = 0;
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    public double getTranslateX() {
+        return translateX;
+    }
+
+    public double getTranslateY() {
+        return translateY;
+    }
+
+    public int getZoomBucket() {
+        return (int) Math.floor(Math.log(scale) / Math.log(2) * ZOOM_BUCKETS_PER_OCTAVE);
+    }
+
+    // Допуск в мировых единицах для допуска в пикселях. Берется по верхней границе корзины,
+    // поэтому на экране отклонение не превышает pixelTolerance, а внутри корзины допуск
+    // не меняется и кривую не нужно дискретизировать заново
+    public double toWorldTolerance(double pixelTolerance) {
+        double bucketScale = Math.pow(2, (getZoomBucket() + 1) / (double) ZOOM_BUCKETS_PER_OCTAVE);
+        return pixelTolerance / bucketScale;
+    }
+}
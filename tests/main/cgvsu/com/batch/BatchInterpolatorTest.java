@@ -0,0 +1,144 @@
+package main.cgvsu.com.batch;
+
+import javafx.geometry.Point2D;
+import main.cgvsu.com.model.CurveBuffer;
+import main.cgvsu.com.model.CurveFile;
+import main.cgvsu.com.model.InterpolationStrategyFactory;
+import main.cgvsu.com.model.LagrangeStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchInterpolatorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testReadCsvSkipsHeaderAndComments() throws IOException {
+        Path file = directory.resolve("points.csv");
+        Files.writeString(file, "# comment\nx,y\n0,0\n1.5, 2\n\n3;4\n");
+
+        assertEquals(List.of(new Point2D(0, 0), new Point2D(1.5, 2), new Point2D(3, 4)),
+                PointFileReader.read(file));
+    }
+
+    @Test
+    void testReadCsvRejectsGarbageAfterData() throws IOException {
+        Path file = directory.resolve("points.csv");
+        Files.writeString(file, "0,0\nfoo,bar\n");
+
+        assertThrows(IllegalArgumentException.class, () -> PointFileReader.read(file));
+    }
+
+    @Test
+    void testReadBinaryCurveFile() throws IOException {
+        CurveBuffer buffer = new CurveBuffer();
+        buffer.add(1, 2);
+        buffer.add(3, 4);
+        Path file = directory.resolve("points.bin");
+        CurveFile.write(file, buffer);
+
+        assertEquals(List.of(new Point2D(1, 2), new Point2D(3, 4)), PointFileReader.read(file));
+    }
+
+    @Test
+    void testParseOptions() {
+        BatchOptions options = BatchOptions.parse(new String[]{
+                "--strategy", "spline", "--output", "out.csv", "--tolerance", "0.5", "--threads", "3", "a.csv", "b.bin"});
+
+        assertEquals(InterpolationStrategyFactory.StrategyType.SPLINE, options.strategyType());
+        assertEquals(List.of(Path.of("a.csv"), Path.of("b.bin")), options.inputs());
+        assertTrue(options.isAdaptive());
+        assertEquals(3, options.threads());
+
+        assertThrows(IllegalArgumentException.class, () -> BatchOptions.parse(new String[]{"--output", "out.csv", "a.csv"}));
+        assertThrows(IllegalArgumentException.class, () -> BatchOptions.parse(new String[]{"--strategy", "SPLINE", "--output"}));
+    }
+
+    @Test
+    void testRunWritesCurvesInInputOrder() throws IOException, InterruptedException {
+        Path inputs = Files.createDirectory(directory.resolve("inputs"));
+        for (int i = 0; i < 20; i++) {
+            Files.writeString(inputs.resolve(String.format("curve%02d.csv", i)), "0,0\n1," + i + "\n2,0\n");
+        }
+        Files.writeString(inputs.resolve("curve99.csv"), "0,0\n0,1\n");
+        Files.writeString(inputs.resolve("notes.txt"), "ignored");
+        Path output = directory.resolve("out.csv");
+
+        BatchOptions options = BatchOptions.parse(new String[]{
+                "--strategy", "LAGRANGE", "--segments", "10", "--threads", "4", "--output", output.toString(), inputs.toString()});
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        BatchReport report = new BatchInterpolator(options, new PrintStream(log)).run();
+
+        assertEquals(20, report.curves());
+        assertEquals(1, report.failed());
+        assertEquals(60, report.controlPoints());
+        assertEquals(20 * 11, report.points());
+        assertTrue(log.toString().contains("curve99.csv"));
+
+        List<String> lines = Files.readAllLines(output);
+        assertEquals("curve,x,y", lines.get(0));
+        assertEquals(1 + 20 * 11, lines.size());
+
+        CurveBuffer expected = new CurveBuffer();
+        new LagrangeStrategy().calculate(List.of(new Point2D(0, 0), new Point2D(1, 7), new Point2D(2, 0)), 10, expected);
+        for (int i = 0; i < 11; i++) {
+            assertEquals("7," + expected.getX(i) + "," + expected.getY(i), lines.get(1 + 7 * 11 + i));
+        }
+    }
+
+    @Test
+    void testRunWritesBinaryBlockPerCurve() throws IOException, InterruptedException {
+        Path inputs = Files.createDirectory(directory.resolve("inputs"));
+        for (int i = 0; i < 5; i++) {
+            Files.writeString(inputs.resolve("curve" + i + ".csv"), "0,0\n1," + i + "\n2,0\n3,5\n");
+        }
+        Path output = directory.resolve("out.bin");
+
+        BatchOptions options = BatchOptions.parse(new String[]{
+                "--strategy", "BEZIER", "--segments", "1000", "--threads", "2", "--output", output.toString(), inputs.toString()});
+        new BatchInterpolator(options, new PrintStream(new ByteArrayOutputStream())).run();
+
+        List<CurveBuffer> curves = CurveFile.readAll(output);
+        assertEquals(5, curves.size());
+        assertEquals(1001, curves.get(3).size());
+        assertEquals(3, curves.get(3).getX(1000), 1e-12);
+        assertEquals(5, curves.get(3).getY(1000), 1e-12);
+    }
+
+    @Test
+    void testRunKeepsInputIndexAfterSkippedFile() throws IOException, InterruptedException {
+        Path inputs = Files.createDirectory(directory.resolve("inputs"));
+        for (int i = 0; i < 4; i++) {
+            Files.writeString(inputs.resolve("curve" + i + ".csv"), i == 1 ? "0,0\nfoo\n" : "0,0\n1," + i + "\n");
+        }
+        Path csv = directory.resolve("out.csv");
+        Path bin = directory.resolve("out.bin");
+        PrintStream log = new PrintStream(new ByteArrayOutputStream());
+
+        for (Path output : List.of(csv, bin)) {
+            BatchOptions options = BatchOptions.parse(new String[]{
+                    "--strategy", "BEZIER", "--segments", "1", "--threads", "2", "--output", output.toString(), inputs.toString()});
+            assertEquals(1, new BatchInterpolator(options, log).run().failed());
+        }
+
+        List<String> lines = Files.readAllLines(csv);
+        assertEquals(List.of("curve,x,y", "0,0.0,0.0", "0,1.0,0.0", "2,0.0,0.0", "2,1.0,2.0", "3,0.0,0.0", "3,1.0,3.0"), lines);
+
+        List<String> index = Files.readAllLines(BatchInterpolator.indexFile(bin));
+        assertEquals(List.of("block,curve,source",
+                "0,0," + inputs.resolve("curve0.csv"),
+                "1,2," + inputs.resolve("curve2.csv"),
+                "2,3," + inputs.resolve("curve3.csv")), index);
+        assertEquals(2, CurveFile.readAll(bin).get(1).getY(1), 1e-12);
+    }
+}
@@ -0,0 +1,143 @@
+package main.cgvsu.com.controller;
+
+import main.cgvsu.com.model.CurveBuffer;
+import main.cgvsu.com.model.InterpolationStrategyFactory.StrategyType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurveCacheTest {
+
+    private static CurveBuffer curve(int size) {
+        CurveBuffer buffer = new CurveBuffer(size);
+        for (int i = 0; i < size; i++) {
+            buffer.add(i, i * 2);
+        }
+        return buffer;
+    }
+
+    private static CurveCache.Key key(long version, int segments) {
+        return CurveCache.Key.uniform(version, StrategyType.BEZIER, segments, false);
+    }
+
+    @Test
+    void testGet_CopiesCachedCurve() {
+        CurveCache cache = new CurveCache();
+        CurveBuffer original = curve(5);
+        cache.put(key(1, 100), original);
+        original.clear();
+
+        CurveBuffer target = new CurveBuffer();
+        target.add(99, 99);
+        assertTrue(cache.get(key(1, 100), target));
+        assertEquals(5, target.size());
+        assertEquals(8, target.getY(4));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testGet_MissForDifferentKey() {
+        CurveCache cache = new CurveCache();
+        cache.put(key(1, 100), curve(3));
+
+        CurveBuffer target = new CurveBuffer();
+        assertFalse(cache.get(key(2, 100), target));
+        assertFalse(cache.get(key(1, 50), target));
+        assertFalse(cache.get(CurveCache.Key.uniform(1, StrategyType.LAGRANGE, 100, false), target));
+        assertFalse(cache.get(CurveCache.Key.uniform(1, StrategyType.BEZIER, 100, true), target));
+        assertFalse(cache.get(CurveCache.Key.adaptive(1, StrategyType.BEZIER, 0.25, false), target));
+        assertEquals(5, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    void testPut_EvictsLeastRecentlyUsedByCount() {
+        CurveCache cache = new CurveCache(2, 1000);
+        cache.put(key(1, 10), curve(1));
+        cache.put(key(1, 20), curve(1));
+        cache.get(key(1, 10), new CurveBuffer());
+        cache.put(key(1, 30), curve(1));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertTrue(cache.get(key(1, 10), new CurveBuffer()));
+        assertFalse(cache.get(key(1, 20), new CurveBuffer()));
+    }
+
+    @Test
+    void testPut_EvictsByTotalPoints() {
+        CurveCache cache = new CurveCache(10, 100);
+        cache.put(key(1, 10), curve(60));
+        cache.put(key(1, 20), curve(30));
+        cache.put(key(1, 30), curve(30));
+
+        assertEquals(2, cache.size());
+        assertEquals(60, cache.getTotalPoints());
+        assertFalse(cache.get(key(1, 10), new CurveBuffer()));
+    }
+
+    @Test
+    void testPut_SkipsCurveLargerThanCache() {
+        CurveCache cache = new CurveCache(10, 100);
+        cache.put(key(1, 10), curve(50));
+        cache.put(key(1, 20), curve(101));
+
+        assertEquals(1, cache.size());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    void testPut_ReplacesSameKey() {
+        CurveCache cache = new CurveCache();
+        cache.put(key(1, 10), curve(10));
+        cache.put(key(1, 10), curve(4));
+
+        assertEquals(1, cache.size());
+        assertEquals(4, cache.getTotalPoints());
+    }
+
+    @Test
+    void testNewerVersion_DropsOlderEntries() {
+        CurveCache cache = new CurveCache();
+        cache.put(key(1, 10), curve(3));
+        cache.put(key(1, 20), curve(3));
+
+        // Перетаскивание: каждый кадр - новая версия точек
+        for (long version = 2; version <= 100; version++) {
+            cache.put(key(version, 10), curve(3));
+        }
+
+        assertEquals(1, cache.size());
+        assertEquals(3, cache.getTotalPoints());
+        assertEquals(0, cache.getEvictionCount());
+        assertEquals(100, cache.getInvalidationCount());
+        assertTrue(cache.get(key(100, 10), new CurveBuffer()));
+    }
+
+    @Test
+    void testPut_IgnoresOutdatedVersion() {
+        CurveCache cache = new CurveCache();
+        cache.put(key(5, 10), curve(3));
+        cache.put(key(4, 10), curve(3));
+
+        assertEquals(1, cache.size());
+        assertFalse(cache.get(key(4, 10), new CurveBuffer()));
+        assertTrue(cache.get(key(5, 10), new CurveBuffer()));
+    }
+
+    @Test
+    void testGet_NewerVersionInvalidates() {
+        CurveCache cache = new CurveCache();
+        cache.put(key(1, 10), curve(3));
+
+        assertFalse(cache.get(key(2, 10), new CurveBuffer()));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getTotalPoints());
+    }
+
+    @Test
+    void testConstructor_RejectsNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new CurveCache(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new CurveCache(10, 0));
+    }
+}
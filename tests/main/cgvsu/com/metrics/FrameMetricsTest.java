@@ -0,0 +1,43 @@
+package main.cgvsu.com.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameMetricsTest {
+
+    @Test
+    void testFormatSummary_OnlyRecordedStages() {
+        FrameMetrics metrics = new FrameMetrics();
+        assertEquals("", metrics.formatSummary());
+
+        metrics.record(FrameMetrics.Stage.FRAME, 2_000_000);
+        String summary = metrics.formatSummary();
+        assertTrue(summary.startsWith(FrameMetrics.Stage.FRAME.getLabel() + ": p50 2.000"));
+        assertFalse(summary.contains(FrameMetrics.Stage.SNAPSHOT.getLabel()));
+    }
+
+    @Test
+    void testRegisterMBeans_ExposesHistogramAttributes() throws Exception {
+        FrameMetrics metrics = new FrameMetrics();
+        metrics.record(FrameMetrics.Stage.CURVE_COMPUTATION, 5_000);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        metrics.registerMBeans();
+        try {
+            var name = FrameMetrics.objectName(FrameMetrics.Stage.CURVE_COMPUTATION);
+            assertEquals(1L, server.getAttribute(name, "Count"));
+            assertEquals(5.0, (Double) server.getAttribute(name, "MaxMicros"));
+
+            // Повторная регистрация заменяет прежние гистограммы
+            new FrameMetrics().registerMBeans();
+            assertEquals(0L, server.getAttribute(name, "Count"));
+        } finally {
+            metrics.unregisterMBeans();
+        }
+        assertFalse(server.isRegistered(FrameMetrics.objectName(FrameMetrics.Stage.FRAME)));
+    }
+}
@@ -0,0 +1,145 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveFlattenerTest {
+
+    private static final double TOLERANCE = 0.25;
+
+    private static final List<Point2D> POINTS = List.of(
+            new Point2D(50, 300),
+            new Point2D(150, 100),
+            new Point2D(300, 350),
+            new Point2D(420, 120),
+            new Point2D(600, 280)
+    );
+
+    @Test
+    void testBezier_WithinTolerance() {
+        assertWithinTolerance(new BezierStrategy(), POINTS);
+    }
+
+    @Test
+    void testCompositeBezier_WithinTolerance() {
+        assertWithinTolerance(new CompositeBezierStrategy(), POINTS);
+    }
+
+    @Test
+    void testLagrange_WithinTolerance() {
+        assertWithinTolerance(new LagrangeStrategy(), POINTS);
+    }
+
+    @Test
+    void testSpline_WithinTolerance() {
+        assertWithinTolerance(new CubicSplineStrategy(), POINTS);
+    }
+
+    @Test
+    void testParametricSpline_WithinTolerance() {
+        assertWithinTolerance(new ParametricSplineStrategy(), POINTS);
+    }
+
+    @Test
+    void testStraightLine_FewVertices() {
+        List<Point2D> line = List.of(new Point2D(0, 0), new Point2D(100, 100), new Point2D(200, 200), new Point2D(300, 300));
+        CurveBuffer buffer = new CurveBuffer();
+        new BezierStrategy().calculateAdaptive(line, TOLERANCE, buffer);
+
+        assertEquals(2, buffer.size());
+        assertEquals(0, buffer.getX(0));
+        assertEquals(300, buffer.getX(1));
+    }
+
+    @Test
+    void testCurve_FewerVerticesThanUniform() {
+        CurveBuffer buffer = new CurveBuffer();
+        new CubicSplineStrategy().calculateAdaptive(POINTS, 1.0, buffer);
+
+        assertTrue(buffer.size() < new CubicSplineStrategy().calculate(POINTS, 250).size());
+    }
+
+    @Test
+    void testOscillatingCurve_VertexCountCapped() {
+        // Колебания мельче любого интервала: без предела каждый интервал делился бы до MAX_DEPTH
+        FittedCurve<Point2D> curve = new FittedCurve<>() {
+            @Override
+            public Point2D evaluate(double t) {
+                return new Point2D(t, 100 * Math.sin(t * 1e5));
+            }
+
+            @Override
+            public void evaluate(double t, CurveSink sink) {
+                sink.accept(t, 100 * Math.sin(t * 1e5));
+            }
+
+            @Override
+            public double getStartParameter() {
+                return 0;
+            }
+
+            @Override
+            public double getEndParameter() {
+                return 1000;
+            }
+        };
+        double[] breakpoints = new double[11];
+        for (int i = 0; i < breakpoints.length; i++) {
+            breakpoints[i] = 100 * i;
+        }
+
+        CurveBuffer buffer = new CurveBuffer();
+        AdaptiveFlattener.flatten(curve, breakpoints, 1e-3, buffer);
+
+        assertTrue(buffer.size() <= AdaptiveFlattener.MAX_VERTICES + 1);
+        assertEquals(1000, buffer.getX(buffer.size() - 1), 1e-9);
+    }
+
+    @Test
+    void testDepthLimit() {
+        assertEquals(AdaptiveFlattener.MAX_DEPTH, AdaptiveFlattener.depthLimit(1));
+        assertEquals(AdaptiveFlattener.MAX_DEPTH - 4, AdaptiveFlattener.depthLimit(10));
+        assertEquals(AdaptiveFlattener.MIN_DEPTH, AdaptiveFlattener.depthLimit(1_000_000));
+    }
+
+    @Test
+    void testInvalidTolerance() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BezierStrategy().calculateAdaptive(POINTS, 0, new CurveBuffer()));
+    }
+
+    @Test
+    void testDistanceToSegment() {
+        assertEquals(5, AdaptiveFlattener.distanceToSegment(5, 5, 0, 0, 10, 0), 1e-12);
+        assertEquals(5, AdaptiveFlattener.distanceToSegment(-3, 4, 0, 0, 10, 0), 1e-12);
+        assertEquals(5, AdaptiveFlattener.distanceToSegment(3, 4, 0, 0, 0, 0), 1e-12);
+    }
+
+    // Каждая точка плотной равномерной дискретизации должна лежать не дальше допуска от ломаной
+    private static void assertWithinTolerance(InterpolationStrategyImpl<Point2D> strategy, List<Point2D> points) {
+        CurveBuffer adaptive = new CurveBuffer();
+        strategy.calculateAdaptive(points, TOLERANCE, adaptive);
+
+        FittedCurve<Point2D> curve = strategy.fit(points);
+        CurveBuffer dense = new CurveBuffer();
+        curve.sample(5000, dense);
+
+        assertEquals(dense.getX(0), adaptive.getX(0), 1e-9);
+        assertEquals(dense.getY(0), adaptive.getY(0), 1e-9);
+        assertEquals(dense.getX(dense.size() - 1), adaptive.getX(adaptive.size() - 1), 1e-9);
+        assertEquals(dense.getY(dense.size() - 1), adaptive.getY(adaptive.size() - 1), 1e-9);
+
+        for (int i = 0; i < dense.size(); i++) {
+            double best = Double.MAX_VALUE;
+            for (int j = 1; j < adaptive.size(); j++) {
+                best = Math.min(best, AdaptiveFlattener.distanceToSegment(dense.getX(i), dense.getY(i),
+                        adaptive.getX(j - 1), adaptive.getY(j - 1), adaptive.getX(j), adaptive.getY(j)));
+            }
+            assertTrue(best <= TOLERANCE * 1.5, "Deviation " + best + " at sample " + i);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BarycentricLagrangeInterpolatorTest {
+
+    private static final List<Point2D> POINTS = List.of(
+            new Point2D(0, 0),
+            new Point2D(1, 2),
+            new Point2D(3, -1),
+            new Point2D(4, 1),
+            new Point2D(6, 3)
+    );
+
+    @Test
+    void testEvaluate_MatchesClassicForm() {
+        LagrangeStrategy strategy = new LagrangeStrategy();
+        BarycentricLagrangeInterpolator interpolator = BarycentricLagrangeInterpolator.fromPoints(POINTS);
+
+        for (double x = 0; x <= 6; x += 0.3) {
+            assertEquals(strategy.calculatePointForX(POINTS, x).getY(), interpolator.evaluate(x), 1e-9);
+        }
+    }
+
+    @Test
+    void testInsertNode_MatchesRebuild() {
+        BarycentricLagrangeInterpolator incremental = new BarycentricLagrangeInterpolator();
+        for (Point2D point : POINTS) {
+            incremental.addNode(point.getX(), point.getY());
+        }
+        BarycentricLagrangeInterpolator rebuilt = BarycentricLagrangeInterpolator.fromPoints(POINTS);
+
+        for (double x = -1; x <= 7; x += 0.25) {
+            assertEquals(rebuilt.evaluate(x), incremental.evaluate(x), 1e-9);
+        }
+    }
+
+    @Test
+    void testRemoveNode_MatchesRebuild() {
+        BarycentricLagrangeInterpolator interpolator = BarycentricLagrangeInterpolator.fromPoints(POINTS);
+        interpolator.removeNode(2);
+
+        List<Point2D> remaining = new ArrayList<>(POINTS);
+        remaining.remove(2);
+        BarycentricLagrangeInterpolator rebuilt = BarycentricLagrangeInterpolator.fromPoints(remaining);
+
+        assertEquals(4, interpolator.size());
+        for (double x = 0; x <= 6; x += 0.25) {
+            assertEquals(rebuilt.evaluate(x), interpolator.evaluate(x), 1e-9);
+        }
+    }
+
+    @Test
+    void testUpdateNode_MatchesRebuild() {
+        BarycentricLagrangeInterpolator interpolator = BarycentricLagrangeInterpolator.fromPoints(POINTS);
+        interpolator.updateNode(1, 2, 5);
+
+        List<Point2D> moved = new ArrayList<>(POINTS);
+        moved.set(1, new Point2D(2, 5));
+        BarycentricLagrangeInterpolator rebuilt = BarycentricLagrangeInterpolator.fromPoints(moved);
+
+        for (double x = 0; x <= 6; x += 0.25) {
+            assertEquals(rebuilt.evaluate(x), interpolator.evaluate(x), 1e-9);
+        }
+    }
+
+    @Test
+    void testInsertNode_DuplicateXLeavesStateUnchanged() {
+        BarycentricLagrangeInterpolator interpolator = BarycentricLagrangeInterpolator.fromPoints(POINTS);
+        double before = interpolator.evaluate(2.5);
+
+        assertThrows(IllegalArgumentException.class, () -> interpolator.addNode(3, 10));
+        assertEquals(5, interpolator.size());
+        assertEquals(before, interpolator.evaluate(2.5));
+    }
+
+    @Test
+    void testManyNodesAddedIncrementally_NoOverflow() {
+        BarycentricLagrangeInterpolator interpolator = new BarycentricLagrangeInterpolator();
+        for (int i = 0; i < 400; i++) {
+            interpolator.addNode(i * 3.0, Math.sin(i * 0.05));
+        }
+
+        for (int i = 0; i < 400; i += 37) {
+            assertEquals(Math.sin(i * 0.05), interpolator.evaluate(i * 3.0), 1e-12);
+        }
+        assertTrue(Double.isFinite(interpolator.evaluate(1.5)));
+    }
+
+    @Test
+    void testStrategy_FollowsPointEdits() {
+        LagrangeStrategy strategy = new LagrangeStrategy();
+        List<Point2D> points = new ArrayList<>(POINTS.subList(0, 3));
+        strategy.calculate(points, 10);
+
+        points.add(POINTS.get(3));
+        assertCurveMatchesClassic(strategy, points);
+
+        points.add(1, new Point2D(0.5, 4));
+        assertCurveMatchesClassic(strategy, points);
+
+        points.set(2, new Point2D(1.5, -2));
+        assertCurveMatchesClassic(strategy, points);
+
+        points.remove(0);
+        assertCurveMatchesClassic(strategy, points);
+
+        points = new ArrayList<>(POINTS);
+        assertCurveMatchesClassic(strategy, points);
+    }
+
+    @Test
+    void testStrategy_DuplicateX() {
+        LagrangeStrategy strategy = new LagrangeStrategy();
+        List<Point2D> points = new ArrayList<>(POINTS);
+        strategy.calculate(points, 10);
+
+        points.add(new Point2D(1, 5));
+        assertThrows(IllegalArgumentException.class, () -> strategy.calculate(points, 10));
+
+        points.remove(points.size() - 1);
+        assertCurveMatchesClassic(strategy, points);
+    }
+
+    private static void assertCurveMatchesClassic(LagrangeStrategy strategy, List<Point2D> points) {
+        List<Point2D> curve = strategy.calculate(points, 20);
+        for (Point2D point : curve) {
+            assertEquals(strategy.calculatePointForX(points, point.getX()).getY(), point.getY(), 1e-8);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BezierCurveTest {
+
+    private final BezierStrategy bezier = new BezierStrategy();
+
+    @Test
+    void testFit_ThrowsOnTooFewPoints() {
+        List<Point2D> points = List.of(new Point2D(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> bezier.fit(points));
+    }
+
+    @Test
+    void testEvaluate_MatchesCasteljau() {
+        List<Point2D> points = List.of(new Point2D(0, 0), new Point2D(5, 10), new Point2D(10, 0), new Point2D(20, 15));
+        FittedCurve<Point2D> curve = bezier.fit(points);
+
+        for (int i = 0; i <= 20; i++) {
+            double t = i / 20.0;
+            Point2D expected = bezier.calculatePoint(points, t);
+            Point2D actual = curve.evaluate(t);
+            assertEquals(expected.getX(), actual.getX(), 1e-9);
+            assertEquals(expected.getY(), actual.getY(), 1e-9);
+        }
+    }
+
+    @Test
+    void testEvaluate_HighDegreeMatchesCasteljau() {
+        List<Point2D> points = new ArrayList<>();
+        for (int i = 0; i < BezierCurve.HORNER_MAX_DEGREE + 10; i++) {
+            points.add(new Point2D(i * 10, (i % 3) * 25));
+        }
+        FittedCurve<Point2D> curve = bezier.fit(points);
+
+        for (int i = 0; i <= 10; i++) {
+            double t = i / 10.0;
+            Point2D expected = bezier.calculatePoint(points, t);
+            Point2D actual = curve.evaluate(t);
+            assertEquals(expected.getX(), actual.getX(), 1e-9);
+            assertEquals(expected.getY(), actual.getY(), 1e-9);
+        }
+    }
+
+    @Test
+    void testSample_HighDegreeMatchesEvaluate() {
+        List<Point2D> points = new ArrayList<>();
+        for (int i = 0; i < BezierCurve.HORNER_MAX_DEGREE + 10; i++) {
+            points.add(new Point2D(i * 10, (i % 3) * 25));
+        }
+        FittedCurve<Point2D> curve = bezier.fit(points);
+        CurveBuffer buffer = new CurveBuffer();
+        curve.sample(20, buffer);
+
+        for (int i = 0; i <= 20; i++) {
+            Point2D expected = curve.evaluate(i / 20.0);
+            assertEquals(expected.getX(), buffer.getX(i), 1e-12);
+            assertEquals(expected.getY(), buffer.getY(i), 1e-12);
+        }
+    }
+
+    @Test
+    void testEvaluate_Endpoints() {
+        List<Point2D> points = List.of(new Point2D(1, 2), new Point2D(5, 10), new Point2D(10, 3));
+        FittedCurve<Point2D> curve = bezier.fit(points);
+
+        assertEquals(points.get(0), curve.evaluate(0));
+        assertEquals(points.get(2), curve.evaluate(1));
+    }
+
+    @Test
+    void testFit_IsIndependentOfSourceList() {
+        List<Point2D> points = new ArrayList<>(List.of(new Point2D(0, 0), new Point2D(10, 10)));
+        FittedCurve<Point2D> curve = bezier.fit(points);
+        points.set(1, new Point2D(100, 100));
+
+        assertEquals(new Point2D(10, 10), curve.evaluate(1));
+    }
+
+    @Test
+    void testSample_MatchesCalculate() {
+        List<Point2D> points = List.of(new Point2D(0, 0), new Point2D(5, 10), new Point2D(10, 0));
+        List<Point2D> expected = bezier.calculate(points, 16);
+
+        CurveBuffer buffer = new CurveBuffer();
+        bezier.fit(points).sample(16, buffer);
+
+        assertEquals(expected.size(), buffer.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getX(), buffer.getX(i), 1e-9);
+            assertEquals(expected.get(i).getY(), buffer.getY(i), 1e-9);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package main.cgvsu.com.model;
 
 import javafx.geometry.Point2D;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -60,4 +62,165 @@ class BezierStrategyTest {
     void testBinomialCoefficient_LargeValue() {
         assertEquals(184756, BezierStrategy.binomialCoefficient(20,10));
     }
+
+    @Test
+    void testCalculateIntoBuffer_MatchesListResult() {
+        List<Point2D> points = List.of(new Point2D(0,0), new Point2D(5,10), new Point2D(10,0), new Point2D(15,5));
+        List<Point2D> expected = bezier.calculate(points, 20);
+
+        CurveBuffer buffer = new CurveBuffer();
+        bezier.calculate(points, 20, buffer);
+
+        assertEquals(expected.size(), buffer.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getX(), buffer.getX(i), 1e-9);
+            assertEquals(expected.get(i).getY(), buffer.getY(i), 1e-9);
+        }
+    }
+
+    @Test
+    void testCalculateIntoBuffer_ReusesStorage() {
+        List<Point2D> points = List.of(new Point2D(0,0), new Point2D(5,10), new Point2D(10,0));
+        CurveBuffer buffer = new CurveBuffer();
+
+        bezier.calculate(points, 50, buffer);
+        double[] data = buffer.getData();
+        bezier.calculate(points, 50, buffer);
+
+        assertEquals(51, buffer.size());
+        assertSame(data, buffer.getData());
+    }
+
+    @Test
+    void testCalculate_ParallelEqualsSequential() {
+        List<Point2D> points = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            points.add(new Point2D(i * 40, (i * 37) % 200));
+        }
+
+        CurveBuffer sequential = new CurveBuffer();
+        bezier.calculate(points, 20_000, sequential);
+
+        BezierStrategy parallelBezier = new BezierStrategy();
+        parallelBezier.setParallel(true);
+        parallelBezier.setParallelThreshold(100);
+        CurveBuffer parallel = new CurveBuffer();
+        parallel.add(-1, -1);
+        parallelBezier.calculate(points, 20_000, parallel);
+
+        assertEquals(sequential.size(), parallel.size());
+        assertArrayEquals(Arrays.copyOf(sequential.getData(), sequential.size() * 2),
+                Arrays.copyOf(parallel.getData(), parallel.size() * 2));
+
+        List<Point2D> listCurve = bezier.calculate(points, 20_000);
+        assertEquals(listCurve, parallel.toPointList());
+    }
+
+    @Test
+    void testSetParallelThreshold_RejectsNonPositive() {
+        assertThrows(IllegalArgumentException.class, () -> bezier.setParallelThreshold(0));
+    }
+
+    private static List<Point2D> wavePoints(int count) {
+        List<Point2D> points = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            points.add(new Point2D(i * 800.0 / count, 300 + 250 * Math.sin(i * 1.3)));
+        }
+        return points;
+    }
+
+    @Test
+    void testEvaluationModes_MatchCasteljau() {
+        for (int count : new int[]{2, 4, 8, 11}) {
+            List<Point2D> points = wavePoints(count);
+            CurveBuffer expected = new CurveBuffer();
+            bezier.calculate(points, 5000, expected);
+
+            for (BezierStrategy.EvaluationMode mode : BezierStrategy.EvaluationMode.values()) {
+                BezierStrategy strategy = new BezierStrategy();
+                strategy.setEvaluationMode(mode);
+                CurveBuffer actual = new CurveBuffer();
+                strategy.calculate(points, 5000, actual);
+
+                assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.getX(i), actual.getX(i), 1e-8, mode + " x at " + i);
+                    assertEquals(expected.getY(i), actual.getY(i), 1e-8, mode + " y at " + i);
+                }
+
+                List<Point2D> list = strategy.calculate(points, 100);
+                assertEquals(101, list.size());
+                assertEquals(bezier.calculatePoint(points, 0.37).getX(), strategy.calculatePoint(points, 0.37).getX(), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testForwardDifference_StaysAccurateOverManySteps() {
+        List<Point2D> points = wavePoints(4);
+        BezierStrategy strategy = new BezierStrategy();
+        strategy.setEvaluationMode(BezierStrategy.EvaluationMode.FORWARD_DIFFERENCE);
+        CurveBuffer curve = new CurveBuffer();
+        strategy.calculate(points, 1_000_000, curve);
+
+        for (int i = 0; i <= 1_000_000; i += 99_991) {
+            Point2D expected = bezier.calculatePoint(points, i / 1_000_000.0);
+            assertEquals(expected.getX(), curve.getX(i), 1e-7);
+            assertEquals(expected.getY(), curve.getY(i), 1e-7);
+        }
+        assertEquals(points.get(3).getX(), curve.getX(1_000_000), 1e-7);
+    }
+
+    @Test
+    void testForwardDifference_ParallelEqualsSequential() {
+        List<Point2D> points = wavePoints(6);
+        BezierStrategy sequential = new BezierStrategy();
+        sequential.setEvaluationMode(BezierStrategy.EvaluationMode.FORWARD_DIFFERENCE);
+        CurveBuffer expected = new CurveBuffer();
+        sequential.calculate(points, 30_000, expected);
+
+        BezierStrategy parallelStrategy = new BezierStrategy();
+        parallelStrategy.setEvaluationMode(BezierStrategy.EvaluationMode.FORWARD_DIFFERENCE);
+        parallelStrategy.setParallel(true);
+        parallelStrategy.setParallelThreshold(333);
+        CurveBuffer actual = new CurveBuffer();
+        parallelStrategy.calculate(points, 30_000, actual);
+
+        assertArrayEquals(Arrays.copyOf(expected.getData(), expected.size() * 2),
+                Arrays.copyOf(actual.getData(), actual.size() * 2));
+    }
+
+    @Test
+    void testEvaluationMode_FallsBackToCasteljauForHighDegree() {
+        assertEquals(BezierStrategy.EvaluationMode.FORWARD_DIFFERENCE,
+                BezierStrategy.resolveMode(BezierStrategy.EvaluationMode.FORWARD_DIFFERENCE, 3));
+        assertEquals(BezierStrategy.EvaluationMode.CASTELJAU,
+                BezierStrategy.resolveMode(BezierStrategy.EvaluationMode.FORWARD_DIFFERENCE, BezierEvaluator.FORWARD_DIFFERENCE_MAX_DEGREE + 1));
+        assertEquals(BezierStrategy.EvaluationMode.CASTELJAU,
+                BezierStrategy.resolveMode(BezierStrategy.EvaluationMode.HORNER, BezierEvaluator.HORNER_MAX_DEGREE + 1));
+
+        List<Point2D> points = wavePoints(BezierEvaluator.HORNER_MAX_DEGREE + 5);
+        CurveBuffer expected = new CurveBuffer();
+        bezier.calculate(points, 200, expected);
+        BezierStrategy strategy = new BezierStrategy();
+        strategy.setEvaluationMode(BezierStrategy.EvaluationMode.HORNER);
+        CurveBuffer actual = new CurveBuffer();
+        strategy.calculate(points, 200, actual);
+        assertArrayEquals(Arrays.copyOf(expected.getData(), expected.size() * 2),
+                Arrays.copyOf(actual.getData(), actual.size() * 2));
+    }
+
+    @Test
+    void testBernstein_HighDegreeMatchesCasteljau() {
+        List<Point2D> points = wavePoints(200);
+        BezierStrategy strategy = new BezierStrategy();
+        strategy.setEvaluationMode(BezierStrategy.EvaluationMode.BERNSTEIN);
+
+        for (double t = 0; t <= 1; t += 0.05) {
+            Point2D expected = bezier.calculatePoint(points, t);
+            Point2D actual = strategy.calculatePoint(points, t);
+            assertEquals(expected.getX(), actual.getX(), 1e-6);
+            assertEquals(expected.getY(), actual.getY(), 1e-6);
+        }
+    }
 }
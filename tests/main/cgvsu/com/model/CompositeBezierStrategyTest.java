@@ -0,0 +1,123 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompositeBezierStrategyTest {
+
+    private CompositeBezierStrategy strategy;
+    private List<Point2D> points;
+
+    @BeforeEach
+    void setup() {
+        strategy = new CompositeBezierStrategy();
+        points = new ArrayList<>();
+        for (int i = 0; i < 31; i++) {
+            points.add(new Point2D(i * 10, (i % 4) * 20));
+        }
+    }
+
+    @Test
+    void testCalculate_ThrowsOnTooFewPoints() {
+        assertThrows(IllegalArgumentException.class, () -> strategy.calculate(List.of(new Point2D(0, 0)), 10));
+    }
+
+    @Test
+    void testSingleCubicSegment_MatchesBezier() {
+        List<Point2D> cubic = points.subList(0, 4);
+        List<Point2D> expected = new BezierStrategy().calculate(cubic, 20);
+        List<Point2D> actual = strategy.calculate(cubic, 20);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getX(), actual.get(i).getX(), 1e-9);
+            assertEquals(expected.get(i).getY(), actual.get(i).getY(), 1e-9);
+        }
+    }
+
+    @Test
+    void testLowerDegreeTail_MatchesBezier() {
+        BezierStrategy bezier = new BezierStrategy();
+        for (int count = 2; count <= 3; count++) {
+            List<Point2D> tail = points.subList(0, count);
+            FittedCurve<Point2D> curve = strategy.fit(tail);
+            for (int i = 0; i <= 10; i++) {
+                double t = i / 10.0;
+                assertEquals(bezier.calculatePoint(tail, t).getX(), curve.evaluate(t).getX(), 1e-9);
+                assertEquals(bezier.calculatePoint(tail, t).getY(), curve.evaluate(t).getY(), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testCurvePassesThroughJoints() {
+        CurveBuffer buffer = new CurveBuffer();
+        strategy.calculate(points, 100, buffer);
+
+        int perSegment = buffer.size() / CompositeBezierStrategy.getSegmentCount(points.size());
+        for (int segment = 0; segment < 10; segment++) {
+            Point2D joint = points.get(segment * 3);
+            assertEquals(joint.getX(), buffer.getX(segment * perSegment), 1e-9);
+            assertEquals(joint.getY(), buffer.getY(segment * perSegment), 1e-9);
+        }
+    }
+
+    @Test
+    void testUpdatePoint_ResamplesOnlyAffectedSegments() {
+        Point2DManager manager = new Point2DManager();
+        points.forEach(manager::addPoint);
+        CurveBuffer buffer = new CurveBuffer();
+        strategy.calculate(manager.getPoints(), 100, buffer);
+        assertEquals(10, strategy.getLastResampledSegmentCount());
+
+        manager.updatePoint(4, new Point2D(45, 90));
+        strategy.calculate(manager.getPoints(), 100, buffer);
+        assertEquals(1, strategy.getLastResampledSegmentCount());
+
+        manager.updatePoint(6, new Point2D(55, 90));
+        strategy.calculate(manager.getPoints(), 100, buffer);
+        assertEquals(2, strategy.getLastResampledSegmentCount());
+
+        strategy.calculate(manager.getPoints(), 100, buffer);
+        assertEquals(0, strategy.getLastResampledSegmentCount());
+
+        assertMatchesFreshComputation(manager.getPoints(), buffer);
+    }
+
+    @Test
+    void testStructureChange_Rebuilds() {
+        CurveBuffer buffer = new CurveBuffer();
+        strategy.calculate(points, 100, buffer);
+
+        points.add(new Point2D(400, 0));
+        strategy.calculate(points, 100, buffer);
+        assertMatchesFreshComputation(points, buffer);
+    }
+
+    @Test
+    void testAffectedSegments() {
+        assertEquals(0, CompositeBezierStrategy.getFirstAffectedSegment(0));
+        assertEquals(0, CompositeBezierStrategy.getLastAffectedSegment(0, 31));
+        assertEquals(0, CompositeBezierStrategy.getFirstAffectedSegment(3));
+        assertEquals(1, CompositeBezierStrategy.getLastAffectedSegment(3, 31));
+        assertEquals(9, CompositeBezierStrategy.getFirstAffectedSegment(30));
+        assertEquals(9, CompositeBezierStrategy.getLastAffectedSegment(30, 31));
+    }
+
+    private static void assertMatchesFreshComputation(List<Point2D> points, CurveBuffer actual) {
+        CurveBuffer expected = new CurveBuffer();
+        new CompositeBezierStrategy().calculate(points, 100, expected);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i), 1e-12);
+            assertEquals(expected.getY(i), actual.getY(i), 1e-12);
+        }
+    }
+}
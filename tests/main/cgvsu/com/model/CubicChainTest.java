@@ -0,0 +1,190 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CubicChainTest {
+
+    private static final int COUNT = 40;
+
+    private static double[] xs(int count) {
+        double[] x = new double[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = i * 20.0;
+        }
+        return x;
+    }
+
+    private static double[] ys(int count) {
+        double[] y = new double[count];
+        for (int i = 0; i < count; i++) {
+            y[i] = 300 + 200 * Math.sin(i * 0.9);
+        }
+        return y;
+    }
+
+    @Test
+    void testFromPolygon_ThrowsOnTooFewPoints() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CubicChain.fromPolygon(new double[]{1}, new double[]{1}, 1, CubicChain.Continuity.C2));
+    }
+
+    @Test
+    void testEndpoints_MatchPolygonEnds() {
+        double[] x = xs(COUNT);
+        double[] y = ys(COUNT);
+        for (CubicChain.Continuity continuity : CubicChain.Continuity.values()) {
+            CubicChain chain = CubicChain.fromPolygon(x, y, COUNT, continuity);
+            assertEquals(x[0], chain.evaluate(0).getX(), 1e-9);
+            assertEquals(y[0], chain.evaluate(0).getY(), 1e-9);
+            assertEquals(x[COUNT - 1], chain.evaluate(1).getX(), 1e-9);
+            assertEquals(y[COUNT - 1], chain.evaluate(1).getY(), 1e-9);
+        }
+    }
+
+    @Test
+    void testSegmentCount_LinearInPointCount() {
+        double[] x = xs(COUNT);
+        double[] y = ys(COUNT);
+        assertEquals(COUNT - 1, CubicChain.fromPolygon(x, y, COUNT, CubicChain.Continuity.C2).getSegmentCount());
+        assertEquals(COUNT - 2, CubicChain.fromPolygon(x, y, COUNT, CubicChain.Continuity.C1).getSegmentCount());
+        assertEquals(1, CubicChain.fromPolygon(x, y, 2, CubicChain.Continuity.C1).getSegmentCount());
+    }
+
+    @Test
+    void testC1_FirstDerivativeContinuousAtJoints() {
+        CubicChain chain = CubicChain.fromPolygon(xs(COUNT), ys(COUNT), COUNT, CubicChain.Continuity.C1);
+        double[][] left = {new double[4], new double[4]};
+        double[][] right = {new double[4], new double[4]};
+
+        for (int s = 0; s < chain.getSegmentCount() - 1; s++) {
+            chain.getSegment(s, left[0], left[1]);
+            chain.getSegment(s + 1, right[0], right[1]);
+            for (int axis = 0; axis < 2; axis++) {
+                assertEquals(left[axis][3], right[axis][0], 1e-9);
+                assertEquals(left[axis][3] - left[axis][2], right[axis][1] - right[axis][0], 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testC2_SecondDerivativeContinuousAtJoints() {
+        CubicChain chain = CubicChain.fromPolygon(xs(COUNT), ys(COUNT), COUNT, CubicChain.Continuity.C2);
+        double[][] left = {new double[4], new double[4]};
+        double[][] right = {new double[4], new double[4]};
+
+        for (int s = 0; s < chain.getSegmentCount() - 1; s++) {
+            chain.getSegment(s, left[0], left[1]);
+            chain.getSegment(s + 1, right[0], right[1]);
+            for (int axis = 0; axis < 2; axis++) {
+                double[] a = left[axis];
+                double[] b = right[axis];
+                assertEquals(a[3], b[0], 1e-9);
+                assertEquals(a[3] - a[2], b[1] - b[0], 1e-9);
+                assertEquals(a[3] - 2 * a[2] + a[1], b[2] - 2 * b[1] + b[0], 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testStrategy_SplitsOnlyAboveThreshold() {
+        List<Point2D> points = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            points.add(new Point2D(i * 30, (i % 2) * 100));
+        }
+
+        BezierStrategy exact = new BezierStrategy();
+        BezierStrategy split = new BezierStrategy();
+        split.setDegreeSplitting(BezierStrategy.DegreeSplitting.C2);
+        assertInstanceOf(BezierCurve.class, split.fit(points));
+        assertEquals(exact.calculatePoint(points, 0.4).getY(), split.calculatePoint(points, 0.4).getY(), 1e-9);
+
+        split.setSplittingDegree(3);
+        assertInstanceOf(CubicChain.class, split.fit(points));
+        List<Point2D> curve = split.calculate(points, 70);
+        assertEquals(71, curve.size());
+        assertEquals(split.calculatePoint(points, 0.4).getY(), curve.get(28).getY(), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> split.setSplittingDegree(0));
+    }
+
+    @Test
+    void testStrategy_ReusesChainForSamePoints() {
+        List<Point2D> points = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            points.add(new Point2D(i * 30, (i % 2) * 100));
+        }
+        BezierStrategy strategy = new BezierStrategy();
+        strategy.setDegreeSplitting(BezierStrategy.DegreeSplitting.C2);
+        strategy.setSplittingDegree(3);
+
+        FittedCurve<Point2D> chain = strategy.fit(points);
+        strategy.calculatePoint(points, 0.5);
+        assertSame(chain, strategy.fit(new ArrayList<>(points)));
+
+        strategy.setDegreeSplitting(BezierStrategy.DegreeSplitting.C1);
+        FittedCurve<Point2D> c1 = strategy.fit(points);
+        assertNotSame(chain, c1);
+        assertNotEquals(chain.evaluate(0.3), c1.evaluate(0.3));
+
+        points.set(4, new Point2D(120, 50));
+        assertNotSame(c1, strategy.fit(points));
+        BezierStrategy fresh = new BezierStrategy();
+        fresh.setDegreeSplitting(BezierStrategy.DegreeSplitting.C1);
+        fresh.setSplittingDegree(3);
+        assertEquals(fresh.calculatePoint(points, 0.4), strategy.calculatePoint(points, 0.4));
+    }
+
+    @Test
+    void testStrategy_ParallelEqualsSequential() {
+        List<Point2D> points = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            points.add(new Point2D(i * 2, 300 + 200 * Math.sin(i * 0.3)));
+        }
+
+        BezierStrategy sequential = new BezierStrategy();
+        sequential.setDegreeSplitting(BezierStrategy.DegreeSplitting.C1);
+        CurveBuffer expected = new CurveBuffer();
+        sequential.calculate(points, 20_000, expected);
+
+        BezierStrategy parallelStrategy = new BezierStrategy();
+        parallelStrategy.setDegreeSplitting(BezierStrategy.DegreeSplitting.C1);
+        parallelStrategy.setParallel(true);
+        parallelStrategy.setParallelThreshold(250);
+        CurveBuffer actual = new CurveBuffer();
+        parallelStrategy.calculate(points, 20_000, actual);
+
+        assertArrayEquals(Arrays.copyOf(expected.getData(), expected.size() * 2),
+                Arrays.copyOf(actual.getData(), actual.size() * 2));
+    }
+
+    @Test
+    void testStrategy_AdaptiveStaysWithinTolerance() {
+        List<Point2D> points = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            points.add(new Point2D(i * 8, 300 + 200 * Math.sin(i * 0.5)));
+        }
+        BezierStrategy strategy = new BezierStrategy();
+        strategy.setDegreeSplitting(BezierStrategy.DegreeSplitting.C2);
+        CurveBuffer adaptive = new CurveBuffer();
+        strategy.calculateAdaptive(points, 0.5, adaptive);
+
+        assertEquals(points.getFirst().getX(), adaptive.getX(0), 1e-9);
+        assertEquals(points.getLast().getX(), adaptive.getX(adaptive.size() - 1), 1e-9);
+        FittedCurve<Point2D> curve = strategy.fit(points);
+        for (int i = 0; i <= 1000; i++) {
+            Point2D p = curve.evaluate(i / 1000.0);
+            double nearest = Double.MAX_VALUE;
+            for (int j = 0; j < adaptive.size() - 1; j++) {
+                nearest = Math.min(nearest, AdaptiveFlattener.distanceToSegment(p.getX(), p.getY(),
+                        adaptive.getX(j), adaptive.getY(j), adaptive.getX(j + 1), adaptive.getY(j + 1)));
+            }
+            assertTrue(nearest <= 0.5 + 1e-9, "deviation " + nearest + " at " + i);
+        }
+    }
+}
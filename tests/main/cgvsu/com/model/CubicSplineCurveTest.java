@@ -0,0 +1,77 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CubicSplineCurveTest {
+
+    private final CubicSplineStrategy strategy = new CubicSplineStrategy();
+
+    @Test
+    void testFit_DuplicateX() {
+        List<Point2D> points = List.of(new Point2D(0, 0), new Point2D(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> strategy.fit(points));
+    }
+
+    @Test
+    void testEvaluate_MatchesCalculatePoint() {
+        List<Point2D> points = List.of(
+                new Point2D(2, 0),
+                new Point2D(0, 0),
+                new Point2D(1, 2),
+                new Point2D(4, 1)
+        );
+        FittedCurve<Point2D> curve = strategy.fit(points);
+
+        for (double x = -1; x <= 5; x += 0.1) {
+            Point2D expected = strategy.calculatePoint(points, x);
+            Point2D actual = curve.evaluate(x);
+            assertEquals(expected.getX(), actual.getX(), 1e-9);
+            assertEquals(expected.getY(), actual.getY(), 1e-9);
+        }
+    }
+
+    @Test
+    void testEvaluate_AtKnots() {
+        List<Point2D> points = List.of(new Point2D(0, 0), new Point2D(1, 2), new Point2D(2, 0));
+        FittedCurve<Point2D> curve = strategy.fit(points);
+
+        for (Point2D point : points) {
+            assertEquals(point.getY(), curve.evaluate(point.getX()).getY(), 1e-12);
+        }
+    }
+
+    @Test
+    void testFit_LargeUnsortedInput() {
+        List<Point2D> points = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            points.add(new Point2D(i, Math.sin(i * 0.1)));
+        }
+        Collections.shuffle(points, new Random(42));
+
+        CubicSplineCurve curve = (CubicSplineCurve) strategy.fit(points);
+        double[] knots = curve.getKnotsX();
+        for (int i = 1; i < knots.length; i++) {
+            assertTrue(knots[i - 1] < knots[i]);
+        }
+        assertEquals(Math.sin(25 * 0.1), curve.evaluateY(25), 1e-12);
+    }
+
+    @Test
+    void testFindSegment() {
+        List<Point2D> points = List.of(new Point2D(0, 0), new Point2D(1, 2), new Point2D(3, 0), new Point2D(4, 1));
+        CubicSplineCurve curve = (CubicSplineCurve) strategy.fit(points);
+
+        assertEquals(0, curve.findSegment(0.5));
+        assertEquals(1, curve.findSegment(1));
+        assertEquals(1, curve.findSegment(2.9));
+        assertEquals(2, curve.findSegment(4));
+    }
+}
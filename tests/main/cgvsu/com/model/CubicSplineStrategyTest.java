@@ -70,4 +70,156 @@ class CubicSplineStrategyTest {
         assertEquals(1, p2.getX(), 1e-6);
         assertEquals(1, p2.getY(), 1e-6);
     }
+
+    @Test
+    void testCalculateIntoBuffer_MatchesListResult() {
+        CubicSplineStrategy strategy = new CubicSplineStrategy();
+        List<Point2D> points = List.of(
+                new Point2D(3, 1),
+                new Point2D(0, 0),
+                new Point2D(1, 2),
+                new Point2D(2, 0)
+        );
+        List<Point2D> expected = strategy.calculate(points, 40);
+
+        CurveBuffer buffer = new CurveBuffer();
+        strategy.calculate(points, 40, buffer);
+
+        assertEquals(expected.size(), buffer.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getX(), buffer.getX(i), 1e-9);
+            assertEquals(expected.get(i).getY(), buffer.getY(i), 1e-9);
+        }
+    }
+
+    @Test
+    void testCalculateIntoBuffer_DuplicateX() {
+        CubicSplineStrategy strategy = new CubicSplineStrategy();
+        List<Point2D> points = List.of(new Point2D(0, 0), new Point2D(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> strategy.calculate(points, 10, new CurveBuffer()));
+    }
+
+    @Test
+    void testFit_ReusedWhilePointsUnchanged() {
+        CubicSplineStrategy strategy = new CubicSplineStrategy();
+        List<Point2D> points = new ArrayList<>(WAVE);
+
+        FittedCurve<Point2D> curve = strategy.fit(points);
+        Point2D point = strategy.calculatePoint(points, 1.5);
+        assertEquals(curve.evaluate(1.5), point);
+        assertSame(curve, strategy.fit(new ArrayList<>(points)));
+
+        points.set(2, new Point2D(2.5, 4));
+        FittedCurve<Point2D> moved = strategy.fit(points);
+        assertNotSame(curve, moved);
+        assertEquals(4, strategy.calculatePoint(points, 2.5).getY(), 1e-12);
+
+        strategy.setBoundaryCondition(CubicSplineStrategy.BoundaryCondition.NOT_A_KNOT);
+        assertNotSame(moved, strategy.fit(points));
+    }
+
+    @Test
+    void testBoundaryCondition_NaturalEndsHaveZeroCurvature() {
+        CubicSplineStrategy strategy = new CubicSplineStrategy();
+        CubicSplineCurve curve = (CubicSplineCurve) strategy.fit(WAVE);
+
+        double[] secondDerivatives = curve.getSecondDerivatives();
+        assertEquals(0, secondDerivatives[0], 1e-12);
+        assertEquals(0, secondDerivatives[secondDerivatives.length - 1], 1e-12);
+    }
+
+    @Test
+    void testBoundaryCondition_ClampedSlopes() {
+        CubicSplineStrategy strategy = new CubicSplineStrategy();
+        strategy.setBoundaryCondition(CubicSplineStrategy.BoundaryCondition.CLAMPED);
+        strategy.setClampedSlopes(2, -3);
+        CubicSplineCurve curve = (CubicSplineCurve) strategy.fit(WAVE);
+
+        double h = 1e-6;
+        double start = curve.getStartParameter();
+        double end = curve.getEndParameter();
+        assertEquals(2, (curve.evaluateY(start + h) - curve.evaluateY(start)) / h, 1e-4);
+        assertEquals(-3, (curve.evaluateY(end) - curve.evaluateY(end - h)) / h, 1e-4);
+    }
+
+    @Test
+    void testBoundaryCondition_NotAKnotReproducesCubic() {
+        CubicSplineStrategy strategy = new CubicSplineStrategy();
+        strategy.setBoundaryCondition(CubicSplineStrategy.BoundaryCondition.NOT_A_KNOT);
+
+        for (int n = 4; n <= 7; n++) {
+            List<Point2D> points = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                double x = i * i * 0.5 + i;
+                points.add(new Point2D(x, cubic(x)));
+            }
+            CubicSplineCurve curve = (CubicSplineCurve) strategy.fit(points);
+
+            for (double x = 0; x <= curve.getEndParameter(); x += 0.125) {
+                assertEquals(cubic(x), curve.evaluateY(x), 1e-8);
+            }
+        }
+    }
+
+    @Test
+    void testBoundaryCondition_NotAKnotThreePointsIsParabola() {
+        CubicSplineStrategy strategy = new CubicSplineStrategy();
+        strategy.setBoundaryCondition(CubicSplineStrategy.BoundaryCondition.NOT_A_KNOT);
+        List<Point2D> points = List.of(new Point2D(0, 1), new Point2D(1, 2), new Point2D(3, 10));
+        CubicSplineCurve curve = (CubicSplineCurve) strategy.fit(points);
+
+        // y = x^2 + 1
+        for (double x = 0; x <= 3; x += 0.25) {
+            assertEquals(x * x + 1, curve.evaluateY(x), 1e-9);
+        }
+    }
+
+    @Test
+    void testBoundaryCondition_PeriodicMatchesAtWrap() {
+        CubicSplineStrategy strategy = new CubicSplineStrategy();
+        strategy.setBoundaryCondition(CubicSplineStrategy.BoundaryCondition.PERIODIC);
+        List<Point2D> points = List.of(
+                new Point2D(0, 1),
+                new Point2D(1, 3),
+                new Point2D(2.5, -1),
+                new Point2D(3, 0),
+                new Point2D(5, 1)
+        );
+        CubicSplineCurve curve = (CubicSplineCurve) strategy.fit(points);
+
+        double h = 1e-5;
+        double start = curve.getStartParameter();
+        double end = curve.getEndParameter();
+        double startSlope = (curve.evaluateY(start + h) - curve.evaluateY(start)) / h;
+        double endSlope = (curve.evaluateY(end) - curve.evaluateY(end - h)) / h;
+        assertEquals(startSlope, endSlope, 1e-3);
+
+        double[] secondDerivatives = curve.getSecondDerivatives();
+        assertEquals(secondDerivatives[0], secondDerivatives[secondDerivatives.length - 1], 1e-12);
+    }
+
+    @Test
+    void testBoundaryCondition_PeriodicRequiresEqualEnds() {
+        CubicSplineStrategy strategy = new CubicSplineStrategy();
+        strategy.setBoundaryCondition(CubicSplineStrategy.BoundaryCondition.PERIODIC);
+        assertThrows(IllegalArgumentException.class, () -> strategy.calculate(WAVE, 40, new CurveBuffer()));
+    }
+
+    @Test
+    void testBoundaryCondition_NullRejected() {
+        CubicSplineStrategy strategy = new CubicSplineStrategy();
+        assertThrows(IllegalArgumentException.class, () -> strategy.setBoundaryCondition(null));
+    }
+
+    private static final List<Point2D> WAVE = List.of(
+            new Point2D(0, 0),
+            new Point2D(1, 2),
+            new Point2D(2.5, -1),
+            new Point2D(4, 1),
+            new Point2D(5, 3)
+    );
+
+    private static double cubic(double x) {
+        return 0.5 * x * x * x - 2 * x * x + x - 3;
+    }
 }
@@ -0,0 +1,67 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurveBufferTest {
+
+    @Test
+    void testAddAndGet() {
+        CurveBuffer buffer = new CurveBuffer(2);
+        buffer.add(1, 2);
+        buffer.add(3, 4);
+
+        assertEquals(2, buffer.size());
+        assertEquals(1, buffer.getX(0));
+        assertEquals(2, buffer.getY(0));
+        assertEquals(3, buffer.getX(1));
+        assertEquals(4, buffer.getY(1));
+    }
+
+    @Test
+    void testGrowsBeyondInitialCapacity() {
+        CurveBuffer buffer = new CurveBuffer(1);
+        for (int i = 0; i < 1000; i++) {
+            buffer.add(i, -i);
+        }
+
+        assertEquals(1000, buffer.size());
+        assertEquals(999, buffer.getX(999));
+        assertEquals(-999, buffer.getY(999));
+    }
+
+    @Test
+    void testClearKeepsCapacity() {
+        CurveBuffer buffer = new CurveBuffer(4);
+        buffer.ensureCapacity(500);
+        double[] data = buffer.getData();
+
+        buffer.add(1, 1);
+        buffer.clear();
+
+        assertTrue(buffer.isEmpty());
+        assertSame(data, buffer.getData());
+        assertTrue(buffer.capacity() >= 500);
+    }
+
+    @Test
+    void testGet_OutOfBounds() {
+        CurveBuffer buffer = new CurveBuffer();
+        buffer.add(0, 0);
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.getX(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.getY(-1));
+    }
+
+    @Test
+    void testToPointList() {
+        CurveBuffer buffer = new CurveBuffer();
+        buffer.add(1, 2);
+        buffer.add(3, 4);
+
+        assertEquals(List.of(new Point2D(1, 2), new Point2D(3, 4)), buffer.toPointList());
+    }
+}
@@ -0,0 +1,79 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurveCancellationTest {
+
+    private static final List<Point2D> POINTS = List.of(
+            new Point2D(50, 300),
+            new Point2D(150, 100),
+            new Point2D(300, 350),
+            new Point2D(420, 120),
+            new Point2D(600, 280)
+    );
+
+    @Test
+    void testWithoutCheck_NeverCancelled() {
+        CurveBuffer buffer = new CurveBuffer();
+        new BezierStrategy().calculate(POINTS, 10_000, buffer);
+        assertEquals(10_001, buffer.size());
+    }
+
+    @Test
+    void testBezier_StopsAtCheckpoint() {
+        AtomicInteger checks = new AtomicInteger();
+        CurveBuffer buffer = new CurveBuffer();
+
+        // Отмена приходит после первой части
+        assertThrows(CancellationException.class, () -> CurveCancellation.run(
+                () -> checks.incrementAndGet() > 1,
+                () -> new BezierStrategy().calculate(POINTS, 100_000, buffer)));
+        assertEquals(2, checks.get());
+    }
+
+    @Test
+    void testParallelSampling_StopsInEveryPart() {
+        LagrangeStrategy strategy = new LagrangeStrategy();
+        strategy.setParallel(true);
+        strategy.setParallelThreshold(1000);
+
+        assertThrows(CancellationException.class, () -> CurveCancellation.run(
+                () -> true, () -> strategy.calculate(POINTS, 100_000, new CurveBuffer())));
+
+        // Стратегия после отмены остается рабочей
+        CurveBuffer buffer = new CurveBuffer();
+        strategy.calculate(POINTS, 100_000, buffer);
+        assertEquals(100_001, buffer.size());
+    }
+
+    @Test
+    void testStreamingAndAdaptive_StopAtCheckpoint() {
+        assertThrows(CancellationException.class, () -> CurveCancellation.run(
+                () -> true, () -> new ParametricSplineStrategy().calculate(POINTS, 10_000, new CurveBuffer())));
+        assertThrows(CancellationException.class, () -> CurveCancellation.run(
+                () -> true, () -> new CubicSplineStrategy().calculateAdaptive(POINTS, 0.1, new CurveBuffer())));
+        assertThrows(CancellationException.class, () -> CurveCancellation.run(
+                () -> true, () -> new CubicSplineStrategy().calculate(POINTS, 10_000, new CurveBuffer())));
+    }
+
+    @Test
+    void testRun_RestoresPreviousCheck() {
+        List<Boolean> seen = new ArrayList<>();
+        CurveCancellation.run(() -> false, () -> {
+            assertThrows(CancellationException.class,
+                    () -> CurveCancellation.run(() -> true, CurveCancellation::checkpoint));
+            CurveCancellation.checkpoint();
+            seen.add(true);
+        });
+        CurveCancellation.checkpoint();
+        assertEquals(List.of(true), seen);
+    }
+}
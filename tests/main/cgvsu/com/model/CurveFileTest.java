@@ -0,0 +1,122 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurveFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testWriteAndReadRoundTrip() throws IOException {
+        CurveBuffer curve = new CurveBuffer();
+        for (int i = 0; i < 10000; i++) {
+            curve.add(i * 0.5, Math.sin(i));
+        }
+        Path file = directory.resolve("curve.bin");
+
+        CurveFile.write(file, curve);
+        CurveBuffer read = CurveFile.read(file);
+
+        assertEquals(CurveFile.HEADER_BYTES + 10000L * CurveFile.POINT_BYTES, Files.size(file));
+        assertEquals(curve.size(), read.size());
+        for (int i = 0; i < curve.size(); i++) {
+            assertEquals(curve.getX(i), read.getX(i));
+            assertEquals(curve.getY(i), read.getY(i));
+        }
+    }
+
+    @Test
+    void testLayoutIsLittleEndian() throws IOException {
+        CurveBuffer curve = new CurveBuffer();
+        curve.add(1.5, -2);
+        Path file = directory.resolve("curve.bin");
+        CurveFile.write(file, curve);
+
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(CurveFile.MAGIC, bytes.getInt());
+        assertEquals(CurveFile.FORMAT_VERSION, bytes.getInt());
+        assertEquals(1, bytes.getLong());
+        assertEquals(1.5, bytes.getDouble());
+        assertEquals(-2, bytes.getDouble());
+    }
+
+    @Test
+    void testEmptyCurve() throws IOException {
+        Path file = directory.resolve("empty.bin");
+        CurveFile.write(file, new CurveBuffer());
+
+        assertTrue(CurveFile.read(file).isEmpty());
+        assertEquals(1, CurveFile.readAll(file).size());
+    }
+
+    @Test
+    void testAppendBlocks() throws IOException {
+        Path file = directory.resolve("curves.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            for (int n : new int[]{0, 3, 5000}) {
+                CurveBuffer curve = new CurveBuffer();
+                for (int i = 0; i < n; i++) {
+                    curve.add(n, i);
+                }
+                CurveFile.append(channel, curve);
+            }
+        }
+
+        List<CurveBuffer> curves = CurveFile.readAll(file);
+        assertEquals(3, curves.size());
+        assertEquals(0, curves.get(0).size());
+        assertEquals(3, curves.get(1).size());
+        assertEquals(5000, curves.get(2).size());
+        assertEquals(4999, curves.get(2).getY(4999));
+        assertEquals(0, CurveFile.read(file).size());
+    }
+
+    @Test
+    void testRejectsCorruptedFiles() throws IOException {
+        Path garbage = directory.resolve("garbage.bin");
+        Files.write(garbage, new byte[32]);
+        assertThrows(IOException.class, () -> CurveFile.read(garbage));
+
+        CurveBuffer curve = new CurveBuffer();
+        curve.add(1, 2);
+        curve.add(3, 4);
+        Path truncated = directory.resolve("truncated.bin");
+        CurveFile.write(truncated, curve);
+        try (FileChannel channel = FileChannel.open(truncated, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(truncated) - 8);
+        }
+        assertThrows(IOException.class, () -> CurveFile.read(truncated));
+
+        Path empty = directory.resolve("empty.bin");
+        Files.write(empty, new byte[0]);
+        assertThrows(IOException.class, () -> CurveFile.read(empty));
+    }
+
+    @Test
+    void testStrategyCurveToFile() throws IOException {
+        List<Point2D> points = List.of(new Point2D(0, 0), new Point2D(1, 2), new Point2D(2, 0));
+        Path file = directory.resolve("bezier.bin");
+
+        new BezierStrategy().calculateToFile(points, 20, file);
+
+        CurveBuffer expected = new CurveBuffer();
+        new BezierStrategy().calculate(points, 20, expected);
+        CurveBuffer read = CurveFile.read(file);
+        assertEquals(expected.size(), read.size());
+        assertEquals(expected.getY(10), read.getY(10));
+    }
+}
@@ -0,0 +1,95 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurveSpliteratorTest {
+    private static final List<Point2D> POINTS = List.of(
+            new Point2D(0, 0), new Point2D(10, 40), new Point2D(25, -5), new Point2D(40, 30), new Point2D(60, 0));
+
+    @Test
+    void testStreamMatchesSample() {
+        FittedCurve<Point2D> curve = new CubicSplineStrategy().fit(POINTS);
+        CurveBuffer sampled = new CurveBuffer();
+        curve.sample(500, sampled);
+
+        CurveBuffer streamed = new CurveBuffer();
+        new CubicSplineStrategy().stream(POINTS, 500, streamed);
+
+        assertEquals(sampled.size(), streamed.size());
+        for (int i = 0; i < sampled.size(); i++) {
+            assertEquals(sampled.getX(i), streamed.getX(i));
+            assertEquals(sampled.getY(i), streamed.getY(i));
+        }
+    }
+
+    @Test
+    void testStreamUsesConstantMemory() {
+        int[] count = new int[1];
+        double[] lastX = new double[1];
+        new BezierStrategy().stream(POINTS, 1_000_000, (x, y) -> {
+            count[0]++;
+            lastX[0] = x;
+        });
+
+        assertEquals(1_000_001, count[0]);
+        assertEquals(60, lastX[0], 1e-9);
+    }
+
+    @Test
+    void testSplitsCoverAllSamplesInOrder() {
+        FittedCurve<Point2D> curve = new BezierStrategy().fit(POINTS);
+        CurveBuffer expected = new CurveBuffer();
+        curve.sample(101, expected);
+
+        CurveSpliterator<Point2D> suffix = curve.spliterator(101);
+        assertEquals(102, suffix.estimateSize());
+        CurveSpliterator<Point2D> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertEquals(102, prefix.estimateSize() + suffix.estimateSize());
+        assertEquals(prefix.estimateSize(), suffix.getIndex());
+
+        CurveBuffer actual = new CurveBuffer();
+        prefix.forEachRemaining(actual);
+        assertTrue(suffix.tryAdvance(actual));
+        suffix.forEachRemaining(actual);
+        assertFalse(suffix.tryAdvance(actual));
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i));
+            assertEquals(expected.getY(i), actual.getY(i));
+        }
+    }
+
+    @Test
+    void testSplitStopsAtSingleSample() {
+        Spliterator<Point2D> spliterator = new LagrangeStrategy().spliterator(POINTS, 1);
+        Spliterator<Point2D> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertNull(spliterator.trySplit());
+        assertNull(prefix.trySplit());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+    }
+
+    @Test
+    void testParallelStreamPreservesOrder() {
+        FittedCurve<Point2D> curve = new LagrangeStrategy().fit(POINTS);
+        List<Point2D> sequential = new ArrayList<>();
+        curve.spliterator(10_000).forEachRemaining(point -> sequential.add(point));
+
+        List<Point2D> parallel = StreamSupport.stream(curve.spliterator(10_000), true)
+                .collect(Collectors.toList());
+
+        assertEquals(10_001, parallel.size());
+        assertEquals(sequential, parallel);
+    }
+}
@@ -0,0 +1,131 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalCubicSplineStrategyTest {
+
+    private final CubicSplineStrategy reference = new CubicSplineStrategy();
+    private IncrementalCubicSplineStrategy strategy;
+    private List<Point2D> points;
+
+    @BeforeEach
+    void setup() {
+        strategy = new IncrementalCubicSplineStrategy();
+        points = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            points.add(new Point2D(i * 10 + (i % 2) * 3, 100 + 40 * Math.sin(i * 0.4)));
+        }
+    }
+
+    @Test
+    void testCalculate_MatchesFullSolve() {
+        assertMatchesReference();
+        assertEquals(59, strategy.getLastResampledSegmentCount());
+    }
+
+    @Test
+    void testDragY_ResamplesOnlyNearbySegments() {
+        assertMatchesReference();
+
+        points.set(30, new Point2D(points.get(30).getX(), 250));
+        assertMatchesReference();
+
+        int resampled = strategy.getLastResampledSegmentCount();
+        assertTrue(resampled >= 2, "Changed segments must be resampled");
+        assertTrue(resampled < 59, "Distant segments must be reused, resampled " + resampled);
+    }
+
+    @Test
+    void testDragX_WithinNeighbours() {
+        assertMatchesReference();
+
+        points.set(10, new Point2D(points.get(10).getX() + 4, 80));
+        assertMatchesReference();
+    }
+
+    @Test
+    void testDragX_PastNeighbours() {
+        assertMatchesReference();
+
+        points.set(10, new Point2D(255, 20));
+        assertMatchesReference();
+
+        points.set(10, new Point2D(-5, 40));
+        assertMatchesReference();
+
+        points.set(59, new Point2D(1, 60));
+        assertMatchesReference();
+    }
+
+    @Test
+    void testUnchangedPoints_NoResampling() {
+        assertMatchesReference();
+        assertMatchesReference();
+        assertEquals(0, strategy.getLastResampledSegmentCount());
+    }
+
+    @Test
+    void testDuplicateX_ThenRecovers() {
+        assertMatchesReference();
+
+        Point2D original = points.get(5);
+        points.set(5, new Point2D(points.get(6).getX(), 0));
+        assertThrows(IllegalArgumentException.class, () -> strategy.calculate(points, 200, new CurveBuffer()));
+
+        points.set(5, original);
+        assertMatchesReference();
+    }
+
+    @Test
+    void testStructureChange_Rebuilds() {
+        assertMatchesReference();
+
+        points.add(new Point2D(1000, 0));
+        assertMatchesReference();
+
+        points.remove(0);
+        assertMatchesReference();
+    }
+
+    @Test
+    void testNotAKnot_UsesFullSolve() {
+        assertMatchesReference();
+
+        reference.setBoundaryCondition(CubicSplineStrategy.BoundaryCondition.NOT_A_KNOT);
+        strategy.setBoundaryCondition(CubicSplineStrategy.BoundaryCondition.NOT_A_KNOT);
+        assertMatchesReference();
+
+        points.set(30, new Point2D(points.get(30).getX(), 250));
+        assertMatchesReference();
+
+        reference.setBoundaryCondition(CubicSplineStrategy.BoundaryCondition.NATURAL);
+        strategy.setBoundaryCondition(CubicSplineStrategy.BoundaryCondition.NATURAL);
+        assertMatchesReference();
+    }
+
+    @Test
+    void testFactory_CreatesIncrementalSpline() {
+        assertInstanceOf(IncrementalCubicSplineStrategy.class,
+                InterpolationStrategyFactory.createStrategy(InterpolationStrategyFactory.StrategyType.SPLINE));
+    }
+
+    private void assertMatchesReference() {
+        CurveBuffer expected = new CurveBuffer();
+        CurveBuffer actual = new CurveBuffer();
+        reference.calculate(points, 200, expected);
+        strategy.calculate(points, 200, actual);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i), 1e-6);
+            assertEquals(expected.getY(i), actual.getY(i), 1e-6);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LagrangeCurveTest {
+
+    private final LagrangeStrategy strategy = new LagrangeStrategy();
+
+    @Test
+    void testFit_DuplicateX() {
+        List<Point2D> points = List.of(new Point2D(0, 0), new Point2D(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> strategy.fit(points));
+    }
+
+    @Test
+    void testEvaluate_PassesThroughNodes() {
+        List<Point2D> points = List.of(new Point2D(0, 0), new Point2D(1, 1), new Point2D(2, 0));
+        FittedCurve<Point2D> curve = strategy.fit(points);
+
+        for (Point2D point : points) {
+            assertEquals(point.getY(), curve.evaluate(point.getX()).getY(), 1e-12);
+        }
+    }
+
+    @Test
+    void testEvaluate_MatchesClassicForm() {
+        List<Point2D> points = List.of(
+                new Point2D(0, 0),
+                new Point2D(1, 2),
+                new Point2D(3, -1),
+                new Point2D(4, 1),
+                new Point2D(6, 3)
+        );
+        FittedCurve<Point2D> curve = strategy.fit(points);
+
+        for (double x = 0; x <= 6; x += 0.25) {
+            assertEquals(strategy.calculatePointForX(points, x).getY(), curve.evaluate(x).getY(), 1e-9);
+        }
+    }
+
+    @Test
+    void testParameterRange() {
+        List<Point2D> points = List.of(new Point2D(3, 0), new Point2D(-2, 1), new Point2D(7, 0));
+        FittedCurve<Point2D> curve = strategy.fit(points);
+
+        assertEquals(-2, curve.getStartParameter());
+        assertEquals(7, curve.getEndParameter());
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -61,4 +62,53 @@ class LagrangeStrategyTest {
         assertEquals(0.5, p.getX(), 1e-6);
         assertTrue(p.getY() > 0 && p.getY() < 2);
     }
+
+    @Test
+    void testCalculateIntoBuffer_MatchesListResult() {
+        LagrangeStrategy strategy = new LagrangeStrategy();
+        List<Point2D> points = List.of(
+                new Point2D(0, 0),
+                new Point2D(1, 2),
+                new Point2D(3, -1),
+                new Point2D(4, 1)
+        );
+        List<Point2D> expected = strategy.calculate(points, 30);
+
+        CurveBuffer buffer = new CurveBuffer();
+        strategy.calculate(points, 30, buffer);
+
+        assertEquals(expected.size(), buffer.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getX(), buffer.getX(i), 1e-9);
+            assertEquals(expected.get(i).getY(), buffer.getY(i), 1e-9);
+        }
+    }
+
+    @Test
+    void testCalculate_ParallelEqualsSequential() {
+        List<Point2D> points = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            points.add(new Point2D(i * 50, Math.cos(i) * 100));
+        }
+
+        CurveBuffer sequential = new CurveBuffer();
+        new LagrangeStrategy().calculate(points, 50_001, sequential);
+
+        LagrangeStrategy strategy = new LagrangeStrategy();
+        strategy.setParallel(true);
+        strategy.setParallelThreshold(1000);
+        CurveBuffer parallel = new CurveBuffer();
+        strategy.calculate(points, 50_001, parallel);
+
+        assertEquals(sequential.size(), parallel.size());
+        assertArrayEquals(Arrays.copyOf(sequential.getData(), sequential.size() * 2),
+                Arrays.copyOf(parallel.getData(), parallel.size() * 2));
+
+        // Ниже порога используется последовательный путь
+        strategy.setParallelThreshold(1_000_000);
+        CurveBuffer belowThreshold = new CurveBuffer();
+        strategy.calculate(points, 50_001, belowThreshold);
+        assertArrayEquals(Arrays.copyOf(sequential.getData(), sequential.size() * 2),
+                Arrays.copyOf(belowThreshold.getData(), belowThreshold.size() * 2));
+    }
 }
@@ -0,0 +1,188 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParametricSplineStrategyTest {
+
+    // Петля: X повторяется и не возрастает
+    private static final List<Point2D> LOOP = List.of(
+            new Point2D(100, 100),
+            new Point2D(300, 100),
+            new Point2D(300, 300),
+            new Point2D(100, 300),
+            new Point2D(100, 150),
+            new Point2D(350, 200)
+    );
+
+    @Test
+    void testCalculate_TooFewPoints() {
+        ParametricSplineStrategy strategy = new ParametricSplineStrategy();
+        assertThrows(IllegalArgumentException.class, () -> strategy.calculate(List.of(new Point2D(0, 0)), 10));
+    }
+
+    @Test
+    void testCalculate_AllPointsEqual() {
+        ParametricSplineStrategy strategy = new ParametricSplineStrategy();
+        List<Point2D> points = List.of(new Point2D(5, 5), new Point2D(5, 5), new Point2D(5, 5));
+        assertThrows(IllegalArgumentException.class, () -> strategy.calculate(points, 10, new CurveBuffer()));
+    }
+
+    @Test
+    void testFit_PassesThroughPointsWithRepeatedX() {
+        for (ParametricSplineStrategy.Parameterization parameterization
+                : ParametricSplineStrategy.Parameterization.values()) {
+            ParametricSplineStrategy strategy = new ParametricSplineStrategy();
+            strategy.setParameterization(parameterization);
+            ParametricSplineCurve curve = (ParametricSplineCurve) strategy.fit(LOOP);
+
+            double[] knots = curve.getKnots();
+            assertEquals(LOOP.size(), knots.length);
+            assertEquals(0, knots[0]);
+            assertEquals(1, knots[knots.length - 1], 1e-12);
+            for (int i = 0; i < knots.length; i++) {
+                Point2D point = curve.evaluate(knots[i]);
+                assertEquals(LOOP.get(i).getX(), point.getX(), 1e-9);
+                assertEquals(LOOP.get(i).getY(), point.getY(), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testFit_ChordLengthKnots() {
+        ParametricSplineStrategy strategy = new ParametricSplineStrategy();
+        List<Point2D> points = List.of(new Point2D(0, 0), new Point2D(30, 40), new Point2D(30, 190));
+        ParametricSplineCurve curve = (ParametricSplineCurve) strategy.fit(points);
+
+        // Хорды 50 и 150
+        assertArrayEquals(new double[] {0, 0.25, 1}, curve.getKnots(), 1e-12);
+
+        strategy.setParameterization(ParametricSplineStrategy.Parameterization.CENTRIPETAL);
+        curve = (ParametricSplineCurve) strategy.fit(points);
+        double first = Math.sqrt(50);
+        assertEquals(first / (first + Math.sqrt(150)), curve.getKnots()[1], 1e-12);
+    }
+
+    @Test
+    void testFit_ConsecutiveDuplicatesSkipped() {
+        ParametricSplineStrategy strategy = new ParametricSplineStrategy();
+        List<Point2D> points = List.of(
+                new Point2D(0, 0), new Point2D(10, 10), new Point2D(10, 10), new Point2D(20, 0));
+        ParametricSplineCurve curve = (ParametricSplineCurve) strategy.fit(points);
+
+        assertEquals(3, curve.getKnotCount());
+        Point2D end = curve.evaluate(curve.getEndParameter());
+        assertEquals(20, end.getX(), 1e-9);
+        assertEquals(0, end.getY(), 1e-9);
+    }
+
+    @Test
+    void testFit_ReusedWhilePointsUnchanged() {
+        ParametricSplineStrategy strategy = new ParametricSplineStrategy();
+        List<Point2D> points = new ArrayList<>(LOOP);
+
+        FittedCurve<Point2D> curve = strategy.fit(points);
+        strategy.calculate(points, 100, new CurveBuffer());
+        strategy.calculateAdaptive(new ArrayList<>(points), 0.5, new CurveBuffer());
+        strategy.calculatePoint(points, 0.5);
+        assertSame(curve, strategy.fit(points));
+
+        points.set(2, new Point2D(320, 310));
+        FittedCurve<Point2D> moved = strategy.fit(points);
+        assertNotSame(curve, moved);
+        assertEquals(320, moved.evaluate(((ParametricSplineCurve) moved).getKnots()[2]).getX(), 1e-9);
+
+        strategy.setParameterization(ParametricSplineStrategy.Parameterization.CENTRIPETAL);
+        assertNotSame(moved, strategy.fit(points));
+    }
+
+    @Test
+    void testFit_FailedFitKeepsPreviousCurve() {
+        ParametricSplineStrategy strategy = new ParametricSplineStrategy();
+        FittedCurve<Point2D> curve = strategy.fit(LOOP);
+
+        List<Point2D> degenerate = List.of(new Point2D(1, 1), new Point2D(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> strategy.fit(degenerate));
+        assertSame(curve, strategy.fit(LOOP));
+    }
+
+    @Test
+    void testCalculateIntoBuffer_MatchesListResult() {
+        ParametricSplineStrategy strategy = new ParametricSplineStrategy();
+        List<Point2D> expected = strategy.calculate(LOOP, 80);
+
+        CurveBuffer buffer = new CurveBuffer();
+        strategy.calculate(LOOP, 80, buffer);
+
+        assertEquals(81, buffer.size());
+        assertEquals(expected.size(), buffer.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getX(), buffer.getX(i), 1e-12);
+            assertEquals(expected.get(i).getY(), buffer.getY(i), 1e-12);
+        }
+    }
+
+    @Test
+    void testCalculatePoint_ClampsToEnds() {
+        ParametricSplineStrategy strategy = new ParametricSplineStrategy();
+
+        Point2D before = strategy.calculatePoint(LOOP, -1);
+        assertEquals(LOOP.get(0).getX(), before.getX(), 1e-12);
+        assertEquals(LOOP.get(0).getY(), before.getY(), 1e-12);
+
+        Point2D after = strategy.calculatePoint(LOOP, 2);
+        assertEquals(LOOP.get(LOOP.size() - 1).getX(), after.getX(), 1e-12);
+        assertEquals(LOOP.get(LOOP.size() - 1).getY(), after.getY(), 1e-12);
+    }
+
+    @Test
+    void testClosed_SmoothAtWrap() {
+        ParametricSplineStrategy strategy = new ParametricSplineStrategy();
+        strategy.setClosed(true);
+        ParametricSplineCurve curve = (ParametricSplineCurve) strategy.fit(LOOP);
+
+        assertEquals(LOOP.size() + 1, curve.getKnotCount());
+        Point2D start = curve.evaluate(0);
+        Point2D end = curve.evaluate(1);
+        assertEquals(start.getX(), end.getX(), 1e-9);
+        assertEquals(start.getY(), end.getY(), 1e-9);
+
+        double h = 1e-8;
+        Point2D afterStart = curve.evaluate(h);
+        Point2D beforeEnd = curve.evaluate(1 - h);
+        assertEquals((afterStart.getX() - start.getX()) / h, (end.getX() - beforeEnd.getX()) / h, 1e-2);
+        assertEquals((afterStart.getY() - start.getY()) / h, (end.getY() - beforeEnd.getY()) / h, 1e-2);
+    }
+
+    @Test
+    void testClosed_ExplicitClosingPointNotDuplicated() {
+        ParametricSplineStrategy strategy = new ParametricSplineStrategy();
+        strategy.setClosed(true);
+        List<Point2D> triangle = List.of(
+                new Point2D(0, 0), new Point2D(10, 0), new Point2D(5, 8), new Point2D(0, 0));
+
+        assertEquals(4, ((ParametricSplineCurve) strategy.fit(triangle)).getKnotCount());
+    }
+
+    @Test
+    void testAdaptive_EndsAtLastPoint() {
+        ParametricSplineStrategy strategy = new ParametricSplineStrategy();
+        CurveBuffer buffer = new CurveBuffer();
+        strategy.calculateAdaptive(LOOP, 0.25, buffer);
+
+        assertTrue(buffer.size() > LOOP.size());
+        assertEquals(LOOP.get(0).getX(), buffer.getX(0), 1e-9);
+        assertEquals(LOOP.get(LOOP.size() - 1).getY(), buffer.getY(buffer.size() - 1), 1e-9);
+    }
+
+    @Test
+    void testFactory_CreatesParametricSpline() {
+        assertInstanceOf(ParametricSplineStrategy.class, InterpolationStrategyFactory.createStrategy(
+                InterpolationStrategyFactory.StrategyType.PARAMETRIC_SPLINE));
+    }
+}
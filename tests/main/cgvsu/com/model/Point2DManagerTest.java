@@ -3,7 +3,10 @@ package main.cgvsu.com.model;
 import javafx.geometry.Point2D;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -105,4 +108,65 @@ class Point2DManagerTest {
         assertTrue(manager.containsPoint(p));
         assertFalse(manager.containsPoint(new Point2D(2, 2)));
     }
+
+    @Test
+    void testSnapshotIsSharedUntilChange() {
+        manager.addPoint(new Point2D(1, 1));
+        PointSnapshot<Point2D> first = manager.getSnapshot();
+        assertSame(first, manager.getSnapshot());
+        assertSame(first.points(), manager.getPoints());
+
+        manager.addPoint(new Point2D(2, 2));
+        PointSnapshot<Point2D> second = manager.getSnapshot();
+        assertTrue(second.version() > first.version());
+        assertEquals(1, first.size());
+        assertEquals(2, second.size());
+    }
+
+    @Test
+    void testSnapshotIsImmutable() {
+        manager.addPoint(new Point2D(1, 1));
+        List<Point2D> points = manager.getPoints();
+        assertThrows(UnsupportedOperationException.class, () -> points.add(new Point2D(2, 2)));
+    }
+
+    @Test
+    void testVersionIgnoresNoOpChanges() {
+        manager.addPoint(new Point2D(1, 1));
+        long version = manager.getVersion();
+
+        manager.updatePoint(0, new Point2D(1, 1));
+        manager.updatePoint(5, new Point2D(3, 3));
+        manager.removePoint(5);
+        manager.removePoint(new Point2D(9, 9));
+        assertEquals(version, manager.getVersion());
+
+        manager.updatePoint(0, new Point2D(4, 4));
+        assertTrue(manager.getVersion() > version);
+
+        version = manager.getVersion();
+        manager.clearPoints();
+        assertTrue(manager.getVersion() > version);
+        version = manager.getVersion();
+        manager.clearPoints();
+        assertEquals(version, manager.getVersion());
+    }
+
+    @Test
+    void testSaveAndLoadPoints(@TempDir Path directory) throws IOException {
+        manager.addPoint(new Point2D(1, 2));
+        manager.addPoint(new Point2D(30, 40));
+        Path file = directory.resolve("points.bin");
+        manager.savePoints(file);
+
+        Point2DManager loaded = new Point2DManager();
+        loaded.addPoint(new Point2D(100, 100));
+        long version = loaded.getVersion();
+        loaded.loadPoints(file);
+
+        assertEquals(manager.getPoints(), loaded.getPoints());
+        assertTrue(loaded.getVersion() > version);
+        assertEquals(1, loaded.findNearestPointIndex(new Point2D(31, 41), 5));
+        assertEquals(-1, loaded.findNearestPointIndex(new Point2D(100, 100), 5));
+    }
 }
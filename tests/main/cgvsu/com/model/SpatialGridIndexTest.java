@@ -0,0 +1,132 @@
+package main.cgvsu.com.model;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialGridIndexTest {
+
+    @Test
+    void testFindNearest_MatchesLinearScanAfterEdits() {
+        Point2DManager manager = new Point2DManager(16);
+        List<Point2D> reference = new ArrayList<>();
+        Random random = new Random(7);
+
+        for (int step = 0; step < 3000; step++) {
+            Point2D point = new Point2D(random.nextInt(400) - 200, random.nextInt(400) - 200);
+            int operation = random.nextInt(10);
+
+            if (operation < 5 || reference.isEmpty()) {
+                manager.addPoint(point);
+                reference.add(point);
+            } else if (operation < 7) {
+                int index = random.nextInt(reference.size() + 1);
+                manager.insertPoint(index, point);
+                reference.add(index, point);
+            } else if (operation < 9) {
+                int index = random.nextInt(reference.size());
+                manager.updatePoint(index, point);
+                reference.set(index, point);
+            } else {
+                int index = random.nextInt(reference.size());
+                manager.removePoint(index);
+                reference.remove(index);
+            }
+
+            Point2D target = new Point2D(random.nextDouble() * 400 - 200, random.nextDouble() * 400 - 200);
+            double radius = random.nextDouble() * 40;
+            assertEquals(linearNearest(reference, target, radius), manager.findNearestPointIndex(target, radius));
+        }
+    }
+
+    @Test
+    void testFindNearest_PrefersLowerIndexOnTie() {
+        Point2DManager manager = new Point2DManager();
+        manager.addPoint(new Point2D(10, 0));
+        manager.addPoint(new Point2D(-10, 0));
+        manager.addPoint(new Point2D(10, 0));
+
+        assertEquals(0, manager.findNearestPointIndex(new Point2D(0, 0), 20));
+        manager.removePoint(0);
+        assertEquals(0, manager.findNearestPointIndex(new Point2D(0, 0), 20));
+    }
+
+    @Test
+    void testFindNearest_HugeRadius() {
+        Point2DManager manager = new Point2DManager();
+        manager.addPoint(new Point2D(1e6, 1e6));
+        manager.addPoint(new Point2D(-1e6, -1e6));
+
+        assertEquals(1, manager.findNearestPointIndex(new Point2D(-5e5, -5e5), Double.POSITIVE_INFINITY));
+        assertEquals(0, manager.findNearestPointIndex(new Point2D(1e6, 1e6), 1e9));
+    }
+
+    @Test
+    void testRemoveByValue_KeepsIndexConsistent() {
+        Point2DManager manager = new Point2DManager();
+        Point2D p1 = new Point2D(0, 0);
+        Point2D p2 = new Point2D(100, 100);
+        manager.addPoint(p1);
+        manager.addPoint(p2);
+
+        manager.removePoint(p1);
+        assertEquals(0, manager.findNearestPointIndex(new Point2D(100, 100), 1));
+        assertEquals(-1, manager.findNearestPointIndex(new Point2D(0, 0), 1));
+    }
+
+    @Test
+    void testCellTable_MatchesHashMapAfterEdits() {
+        SpatialGridIndex.CellTable table = new SpatialGridIndex.CellTable();
+        Map<Long, SpatialGridIndex.IndexList> reference = new HashMap<>();
+        Random random = new Random(13);
+
+        for (int step = 0; step < 20_000; step++) {
+            // Узкий диапазон ключей дает длинные цепочки и частые удаления из их середины
+            long key = ((long) (random.nextInt(64) - 32) << 32) ^ ((random.nextInt(64) - 32) & 0xffffffffL);
+            if (random.nextInt(3) == 0) {
+                table.remove(key);
+                reference.remove(key);
+            } else {
+                SpatialGridIndex.IndexList list = table.getOrCreate(key);
+                SpatialGridIndex.IndexList expected = reference.putIfAbsent(key, list);
+                if (expected != null) {
+                    assertSame(expected, list);
+                }
+            }
+        }
+
+        assertEquals(reference.size(), table.size());
+        for (Map.Entry<Long, SpatialGridIndex.IndexList> entry : reference.entrySet()) {
+            assertSame(entry.getValue(), table.get(entry.getKey()));
+        }
+
+        table.clear();
+        assertEquals(0, table.size());
+        assertNull(table.get(reference.keySet().iterator().next()));
+    }
+
+    @Test
+    void testInvalidCellSize() {
+        assertThrows(IllegalArgumentException.class, () -> new Point2DManager(0));
+    }
+
+    private static int linearNearest(List<Point2D> points, Point2D target, double radius) {
+        int nearest = -1;
+        double minDistance = Double.MAX_VALUE;
+        for (int i = 0; i < points.size(); i++) {
+            double distance = points.get(i).distance(target);
+            if (distance <= radius && distance < minDistance) {
+                minDistance = distance;
+                nearest = i;
+            }
+        }
+        return nearest;
+    }
+}
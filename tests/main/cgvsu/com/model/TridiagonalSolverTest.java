@@ -0,0 +1,124 @@
+package main.cgvsu.com.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TridiagonalSolverTest {
+
+    @Test
+    void testSolve_RandomDiagonallyDominantSystems() {
+        TridiagonalSolver solver = new TridiagonalSolver();
+        Random random = new Random(7);
+
+        for (int n = 1; n <= 40; n++) {
+            double[][] system = randomSystem(random, n);
+            double[] solution = new double[n];
+            solver.solve(system[0], system[1], system[2], system[3], n, solution);
+
+            for (int i = 0; i < n; i++) {
+                double left = system[1][i] * solution[i];
+                if (i > 0) {
+                    left += system[0][i] * solution[i - 1];
+                }
+                if (i < n - 1) {
+                    left += system[2][i] * solution[i + 1];
+                }
+                assertEquals(system[3][i], left, 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testSolveCyclic_RandomDiagonallyDominantSystems() {
+        TridiagonalSolver solver = new TridiagonalSolver();
+        Random random = new Random(11);
+
+        for (int n = 1; n <= 40; n++) {
+            double[][] system = randomSystem(random, n);
+            double[] solution = new double[n];
+            solver.solveCyclic(system[0], system[1], system[2], system[3], n, solution);
+
+            for (int i = 0; i < n; i++) {
+                double left = system[1][i] * solution[i]
+                        + system[0][i] * solution[(i + n - 1) % n]
+                        + system[2][i] * solution[(i + 1) % n];
+                assertEquals(system[3][i], left, 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testSolve_OffsetLeavesOtherRowsUntouched() {
+        TridiagonalSolver solver = new TridiagonalSolver();
+        double[] lower = {9, 9, 1, 1, 9};
+        double[] diagonal = {9, 4, 4, 4, 9};
+        double[] upper = {9, 1, 1, 9, 9};
+        double[] rhs = {9, 5, 6, 5, 9};
+        double[] solution = {-1, 0, 0, 0, -1};
+
+        solver.solve(lower, diagonal, upper, rhs, 1, 3, solution);
+
+        assertEquals(-1, solution[0]);
+        assertEquals(-1, solution[4]);
+        assertEquals(1, solution[1], 1e-12);
+        assertEquals(1, solution[2], 1e-12);
+        assertEquals(1, solution[3], 1e-12);
+    }
+
+    @Test
+    void testSolve_InputArraysNotModified() {
+        TridiagonalSolver solver = new TridiagonalSolver();
+        double[][] system = randomSystem(new Random(3), 10);
+        double[][] copy = new double[4][];
+        for (int i = 0; i < 4; i++) {
+            copy[i] = system[i].clone();
+        }
+
+        solver.solveCyclic(system[0], system[1], system[2], system[3], 10, new double[10]);
+
+        for (int i = 0; i < 4; i++) {
+            assertArrayEquals(copy[i], system[i]);
+        }
+    }
+
+    @Test
+    void testSolve_WorkspaceReused() {
+        TridiagonalSolver solver = new TridiagonalSolver();
+        double[][] system = randomSystem(new Random(5), 64);
+        double[] solution = new double[64];
+
+        solver.solveCyclic(system[0], system[1], system[2], system[3], 64, solution);
+        assertEquals(64, solver.getCapacity());
+
+        solver.solve(system[0], system[1], system[2], system[3], 16, solution);
+        solver.solveCyclic(system[0], system[1], system[2], system[3], 32, solution);
+        assertEquals(64, solver.getCapacity());
+    }
+
+    @Test
+    void testSolve_InvalidSize() {
+        TridiagonalSolver solver = new TridiagonalSolver();
+        double[] empty = new double[0];
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(empty, empty, empty, empty, 0, empty));
+        assertThrows(IllegalArgumentException.class, () -> solver.solveCyclic(empty, empty, empty, empty, 0, empty));
+    }
+
+    // lower, diagonal, upper, rhs со строгим диагональным преобладанием
+    private static double[][] randomSystem(Random random, int n) {
+        double[] lower = new double[n];
+        double[] diagonal = new double[n];
+        double[] upper = new double[n];
+        double[] rhs = new double[n];
+        for (int i = 0; i < n; i++) {
+            lower[i] = random.nextDouble() * 2 - 1;
+            upper[i] = random.nextDouble() * 2 - 1;
+            diagonal[i] = (Math.abs(lower[i]) + Math.abs(upper[i]) + 0.5 + random.nextDouble())
+                    * (random.nextBoolean() ? 1 : -1);
+            rhs[i] = random.nextDouble() * 20 - 10;
+        }
+        return new double[][] {lower, diagonal, upper, rhs};
+    }
+}
@@ -0,0 +1,102 @@
+package main.cgvsu.com.view;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurveDecimatorTest {
+
+    // Команды пути в виде строк "M x y" и "L x y"
+    private static final class RecordingSink implements CurveDecimator.PathSink {
+        final List<String> commands = new ArrayList<>();
+
+        @Override
+        public void moveTo(double x, double y) {
+            commands.add("M " + x + " " + y);
+        }
+
+        @Override
+        public void lineTo(double x, double y) {
+            commands.add("L " + x + " " + y);
+        }
+    }
+
+    private static List<String> trace(double... data) {
+        RecordingSink sink = new RecordingSink();
+        int emitted = CurveDecimator.trace(data, data.length / 2, 0, 0, 100, 100, sink);
+        assertEquals(sink.commands.size(), emitted);
+        return sink.commands;
+    }
+
+    @Test
+    void testTrace_KeepsVisibleVertices() {
+        assertEquals(List.of("M 10.0 10.0", "L 20.0 20.0", "L 30.0 10.0"), trace(10, 10, 20, 20, 30, 10));
+    }
+
+    @Test
+    void testTrace_EmptyAndSinglePoint() {
+        assertTrue(trace().isEmpty());
+        assertTrue(trace(10, 10).isEmpty());
+    }
+
+    @Test
+    void testTrace_SkipsVerticesInSamePixel() {
+        List<String> commands = trace(10.1, 10.1, 10.3, 10.2, 10.5, 10.6, 10.9, 10.9, 40, 40);
+        assertEquals(List.of("M 10.1 10.1", "L 40.0 40.0"), commands);
+    }
+
+    @Test
+    void testTrace_KeepsLastVertexInSamePixel() {
+        assertEquals(List.of("M 10.1 10.1", "L 10.9 10.9"), trace(10.1, 10.1, 10.5, 10.5, 10.9, 10.9));
+    }
+
+    @Test
+    void testTrace_CullsOffscreenSpansAndBreaksPath() {
+        List<String> commands = trace(
+                50, 50,
+                150, 50,
+                200, 60,
+                250, 70,
+                150, 80,
+                60, 80);
+        assertEquals(List.of("M 50.0 50.0", "L 150.0 50.0", "M 150.0 80.0", "L 60.0 80.0"), commands);
+    }
+
+    @Test
+    void testTrace_KeepsSpanCrossingViewport() {
+        // Оба конца вне области, но по разные стороны: звено пересекает область
+        assertEquals(List.of("M -50.0 50.0", "L 150.0 50.0"), trace(-50, 50, 150, 50));
+    }
+
+    @Test
+    void testTrace_DenseCurveEmitsAtMostOneVertexPerPixel() {
+        int size = 100_000;
+        double[] data = new double[size * 2];
+        for (int i = 0; i < size; i++) {
+            data[i * 2] = 10 + 80.0 * i / size;
+            data[i * 2 + 1] = 50;
+        }
+        RecordingSink sink = new RecordingSink();
+        int emitted = CurveDecimator.trace(data, size, 0, 0, 100, 100, sink);
+        assertTrue(emitted <= 82, "emitted " + emitted);
+    }
+
+    @Test
+    void testTrace_AppliesTransformBeforeCulling() {
+        RecordingSink sink = new RecordingSink();
+        // При масштабе 2 и сдвиге -150 видимы только мировые x от 75 до 125
+        CurveDecimator.trace(new double[]{0, 10, 50, 10, 100, 10, 200, 10}, 4,
+                2, -150, 0, 0, 0, 100, 100, sink);
+        assertEquals(List.of("M -50.0 20.0", "L 50.0 20.0", "L 250.0 20.0"), sink.commands);
+    }
+
+    @Test
+    void testOutcode_ClassifiesRegions() {
+        assertEquals(0, CurveDecimator.outcode(50, 50, 0, 0, 100, 100));
+        assertNotEquals(0, CurveDecimator.outcode(-1, 50, 0, 0, 100, 100));
+        assertNotEquals(0, CurveDecimator.outcode(50, 101, 0, 0, 100, 100));
+    }
+}
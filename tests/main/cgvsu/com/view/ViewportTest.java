@@ -0,0 +1,78 @@
+package main.cgvsu.com.view;
+
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewportTest {
+
+    @Test
+    void testDefault_IsIdentity() {
+        Viewport viewport = new Viewport();
+        assertEquals(12.5, viewport.toScreenX(12.5));
+        assertEquals(-3, viewport.toScreenY(-3));
+        assertEquals(new Point2D(7, 9), viewport.toWorld(7, 9));
+    }
+
+    @Test
+    void testToWorld_InvertsToScreen() {
+        Viewport viewport = new Viewport();
+        viewport.pan(40, -15);
+        viewport.zoomAt(300, 200, 2.5);
+        viewport.pan(-7, 3);
+
+        Point2D world = viewport.toWorld(123, 456);
+        assertEquals(123, viewport.toScreenX(world.getX()), 1e-9);
+        assertEquals(456, viewport.toScreenY(world.getY()), 1e-9);
+        assertEquals(4, viewport.toWorldDistance(10), 1e-12);
+    }
+
+    @Test
+    void testZoomAt_KeepsPointUnderCursor() {
+        Viewport viewport = new Viewport();
+        viewport.pan(10, 20);
+        Point2D before = viewport.toWorld(250, 130);
+        viewport.zoomAt(250, 130, 3);
+        Point2D after = viewport.toWorld(250, 130);
+
+        assertEquals(before.getX(), after.getX(), 1e-9);
+        assertEquals(before.getY(), after.getY(), 1e-9);
+        assertEquals(3, viewport.getScale(), 1e-12);
+    }
+
+    @Test
+    void testZoomAt_ClampsScale() {
+        Viewport viewport = new Viewport();
+        viewport.zoomAt(0, 0, 1e9);
+        assertEquals(Viewport.MAX_SCALE, viewport.getScale());
+        viewport.zoomAt(0, 0, 1e-12);
+        assertEquals(Viewport.MIN_SCALE, viewport.getScale());
+        assertThrows(IllegalArgumentException.class, () -> viewport.zoomAt(0, 0, 0));
+    }
+
+    @Test
+    void testToWorldTolerance_ConstantWithinBucketAndBoundedOnScreen() {
+        Viewport viewport = new Viewport();
+        double tolerance = viewport.toWorldTolerance(0.25);
+        viewport.zoomAt(0, 0, 1.1);
+        assertEquals(tolerance, viewport.toWorldTolerance(0.25));
+
+        for (double factor = 1.05; viewport.getScale() < 50; viewport.zoomAt(0, 0, factor)) {
+            assertTrue(viewport.toWorldTolerance(0.25) * viewport.getScale() <= 0.25 + 1e-12);
+        }
+        assertTrue(viewport.toWorldTolerance(0.25) < tolerance);
+    }
+
+    @Test
+    void testReset_RestoresIdentity() {
+        Viewport viewport = new Viewport();
+        viewport.pan(5, 5);
+        viewport.zoomAt(10, 10, 4);
+        viewport.reset();
+
+        assertEquals(1, viewport.getScale());
+        assertEquals(0, viewport.getTranslateX());
+        assertEquals(0, viewport.getTranslateY());
+    }
+}